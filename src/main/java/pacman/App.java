@@ -7,8 +7,15 @@ import pacman.model.engine.GameEngine;
 import pacman.model.engine.GameEngineImpl;
 import pacman.view.GameWindow;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
 public class App extends Application {
 
+    private GameEngine model;
+
     public static void main(String[] args) {
         launch(args);
     }
@@ -16,15 +23,55 @@ public class App extends Application {
     @Override
     public void start(Stage primaryStage) {
         String configPath = getParameters().getNamed().getOrDefault("config", "/config.json");
+        String seed = getParameters().getNamed().get("seed");
         GameEngine model;
         try {
-            model = new GameEngineImpl(configPath);
+            model = seed == null ? new GameEngineImpl(configPath) : new GameEngineImpl(configPath, Long.parseLong(seed));
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid seed: " + e.getMessage());
+            Platform.exit();
+            return;
         } catch (ConfigurationParseException e) {
             System.err.println(e.getMessage());
             Platform.exit();
             return;
         }
-        GameWindow window = new GameWindow(model, 448, 576);
+        double tickRate;
+        try {
+            tickRate = Double.parseDouble(getParameters().getNamed()
+                    .getOrDefault("tickRate", String.valueOf(GameWindow.DEFAULT_TICK_RATE)));
+        } catch (NumberFormatException e) {
+            System.err.println("Invalid tick rate: " + e.getMessage());
+            Platform.exit();
+            return;
+        }
+        if (!(tickRate > 0)) {
+            System.err.println("Tick rate must be positive: " + tickRate);
+            Platform.exit();
+            return;
+        }
+        boolean interpolate = Boolean.parseBoolean(getParameters().getNamed().getOrDefault("interpolate", "false"));
+
+        String renderer = getParameters().getNamed().getOrDefault("renderer", "nodes");
+        if (!renderer.equals("nodes") && !renderer.equals("canvas")) {
+            System.err.println("Unknown renderer: " + renderer);
+            Platform.exit();
+            return;
+        }
+
+        String record = getParameters().getNamed().get("record");
+        if (record != null) {
+            try {
+                model.startRecording(Files.newOutputStream(Paths.get(record)));
+            } catch (IOException | UncheckedIOException e) {
+                System.err.println("Failed to start recording: " + e.getMessage());
+                Platform.exit();
+                return;
+            }
+        }
+        this.model = model;
+
+        GameWindow window = new GameWindow(model, 448, 576, tickRate, interpolate, renderer.equals("canvas"));
 
         primaryStage.setTitle("PacmanFX");
         primaryStage.setScene(window.getScene());
@@ -32,4 +79,11 @@ public class App extends Application {
 
         window.run();
     }
+
+    @Override
+    public void stop() {
+        if (model != null) {
+            model.stopRecording();
+        }
+    }
 }
@@ -11,6 +11,7 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.OptionalLong;
 
 /**
  * Helper class to read Game Configuration from JSONObject
@@ -97,4 +98,20 @@ public class GameConfigurationReader {
     public JSONArray getLevelConfigs() {
         return (JSONArray) gameConfig.get("levels");
     }
+
+    /**
+     * Gets the seed of the game's random number generator, if the config fixes one
+     *
+     * @return seed from the optional "seed" field
+     */
+    public OptionalLong getSeed() {
+        Object seed = gameConfig.get("seed");
+        if (seed == null) {
+            return OptionalLong.empty();
+        }
+        if (!(seed instanceof Long)) {
+            throw new ConfigurationParseException("Config seed must be an integer: " + seed);
+        }
+        return OptionalLong.of((Long) seed);
+    }
 }
@@ -2,8 +2,12 @@ package pacman.model.engine;
 
 import pacman.model.engine.observer.GameStateSubject;
 import pacman.model.entity.Renderable;
+import pacman.model.entity.dynamic.player.MovementInvoker;
 import pacman.model.level.observer.LevelStateObserver;
+import pacman.model.level.observer.RenderableObserver;
+import pacman.model.snapshot.GameSnapshot;
 
+import java.io.OutputStream;
 import java.util.List;
 
 
@@ -25,6 +29,80 @@ public interface GameEngine extends GameStateSubject {
     void startGame();
 
 
+    /**
+     * Gets the seed of the game's random number generator. Games created from the same config and seed
+     * play out identically when given the same moves on the same ticks.
+     *
+     * @return seed of the game
+     */
+    long getSeed();
+
+    /**
+     * Captures the complete state of the game: the level, every entity, the score, the player's pending moves and
+     * the random number generator. Restoring the snapshot and giving the same moves on the same ticks plays out
+     * the same game from there on.
+     *
+     * @return immutable snapshot of the game
+     * @throws IllegalStateException if the game has not started
+     */
+    GameSnapshot snapshot();
+
+    /**
+     * Puts the game back into the state captured by {@link #snapshot()}, without replaying it from the start.
+     * Observers are told about the changed game state, lives, score and renderables. A recording in progress
+     * is not rewound.
+     *
+     * @param snapshot snapshot taken from a game created from the same config
+     * @throws IllegalStateException    if the game has not started
+     * @throws IllegalArgumentException if the snapshot does not fit this game
+     */
+    void restore(GameSnapshot snapshot);
+
+    /**
+     * Starts streaming a replay of the game (see {@link pacman.model.engine.replay.Replay}): the seed, the config
+     * and every move from now on. Must be called before the game is started.
+     *
+     * @param out stream the replay is written to; closed by {@link #stopRecording()}
+     * @throws java.io.UncheckedIOException if the replay cannot be written
+     */
+    void startRecording(OutputStream out);
+
+    /**
+     * Ends the replay started by {@link #startRecording(OutputStream)} at the current tick and closes its stream.
+     * Does nothing if the game is not being recorded.
+     *
+     * @throws java.io.UncheckedIOException if the replay cannot be written
+     */
+    void stopRecording();
+
+    /**
+     * Starts streaming the visible state of the game to spectators (see
+     * {@link pacman.model.engine.spectator.SpectatorStreamReader}): a frame after every tick with only the changes,
+     * and a keyframe with the full state every {@code keyframeInterval} ticks. Can be called at any time; the stream
+     * starts with a keyframe. Only one stream is written at a time, so a host fans it out to its spectators.
+     *
+     * @param out              stream the frames are written to; closed by {@link #stopSpectatorStream()}
+     * @param keyframeInterval ticks between keyframes
+     * @throws IllegalStateException        if a spectator stream is already being written
+     * @throws java.io.UncheckedIOException if the stream cannot be written
+     */
+    void startSpectatorStream(OutputStream out, int keyframeInterval);
+
+    /**
+     * Ends the spectator stream started by {@link #startSpectatorStream(OutputStream, int)} and closes it.
+     * Does nothing if no stream is being written.
+     *
+     * @throws java.io.UncheckedIOException if the stream cannot be written
+     */
+    void stopSpectatorStream();
+
+    /**
+     * Gets the invoker that queues the player's moves for this game
+     *
+     * @return movement invoker of the game
+     */
+    MovementInvoker getMovementInvoker();
+
     /**
      * Move the player up
      */
@@ -56,4 +134,11 @@ public interface GameEngine extends GameStateSubject {
      * @param observer observer to register
      */
     void registerLevelStateObserver(LevelStateObserver observer);
+
+    /**
+     * Registers an observer of the renderables of the current level and every level started afterwards
+     *
+     * @param observer observer to register
+     */
+    void registerRenderableObserver(RenderableObserver observer);
 }
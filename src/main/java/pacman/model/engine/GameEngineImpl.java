@@ -4,44 +4,107 @@ import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
 import pacman.model.engine.observer.GameState;
 import pacman.model.engine.observer.GameStateObserver;
+import pacman.model.engine.replay.ReplayWriter;
+import pacman.model.engine.spectator.SpectatorStreamWriter;
 import pacman.model.entity.Renderable;
 import pacman.model.entity.dynamic.physics.Direction;
+import pacman.model.entity.dynamic.player.MovementInvoker;
+import pacman.model.entity.dynamic.player.command.MoveCommand;
+import pacman.model.entity.dynamic.player.command.MoveDownCommand;
+import pacman.model.entity.dynamic.player.command.MoveLeftCommand;
+import pacman.model.entity.dynamic.player.command.MoveRightCommand;
+import pacman.model.entity.dynamic.player.command.MoveUpCommand;
 import pacman.model.factories.*;
 import pacman.model.level.Level;
 import pacman.model.level.LevelImpl;
 import pacman.model.level.observer.LevelStateObserver;
+import pacman.model.level.observer.RenderableObserver;
 import pacman.model.maze.Maze;
 import pacman.model.maze.MazeCreator;
-import pacman.view.keyboard.command.*;
+import pacman.model.maze.MazeTemplate;
+import pacman.model.snapshot.GameSnapshot;
 import pacman.ConfigurationParseException;
+import pacman.util.SplitMix64;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.OptionalLong;
+import java.util.SplittableRandom;
 
 /**
  * Implementation of GameEngine - responsible for coordinating the Pac-Man model
  */
 public class GameEngineImpl implements GameEngine {
 
+    private final MovementInvoker movementInvoker;
+    private final String configPath;
+    private final long seed;
+    // source of all random choices in this game
+    private final SplitMix64 random;
     private final RenderableFactoryRegistry renderableFactoryRegistry;
     private final List<GameStateObserver> observers;
     private final List<LevelStateObserver> levelStateObservers;
+    private final List<RenderableObserver> renderableObservers;
+    // commands for restoring the player's moves from a snapshot
+    private final Map<Direction, MoveCommand> commands;
+    private final LevelStateObserver scoreKeeper;
     private Level currentLevel;
     private int numLevels;
     private int currentLevelNo;
     private Maze maze;
     private JSONArray levelConfigs;
     private GameState gameState;
-
+    // ticks since the game was started; moves are recorded against it
+    private long tickCount;
+    // score shown to the player over all levels, kept so snapshots can restore it
+    private int score;
+    private ReplayWriter replayWriter;
+    private SpectatorStreamWriter spectatorWriter;
+
+    /**
+     * Creates a game seeded by the config's "seed" field, or by a random seed if the config has none
+     *
+     * @param configPath config file path (filesystem path or classpath resource)
+     */
     public GameEngineImpl(String configPath) {
+        this(configPath, new GameConfigurationReader(configPath), OptionalLong.empty());
+    }
+
+    /**
+     * Creates a game with the given seed, overriding the config's "seed" field
+     *
+     * @param configPath config file path (filesystem path or classpath resource)
+     * @param seed       seed of the game's random number generator
+     */
+    public GameEngineImpl(String configPath, long seed) {
+        this(configPath, new GameConfigurationReader(configPath), OptionalLong.of(seed));
+    }
+
+    private GameEngineImpl(String configPath, GameConfigurationReader gameConfigurationReader, OptionalLong seed) {
+        this.configPath = configPath;
+        this.seed = seed.isPresent() ? seed.getAsLong()
+                : gameConfigurationReader.getSeed().orElseGet(() -> new SplittableRandom().nextLong());
+        this.random = new SplitMix64(this.seed);
+        this.movementInvoker = new MovementInvoker();
         this.renderableFactoryRegistry = getRenderableFactoryRegistry();
         this.currentLevelNo = 0;
         this.observers = new ArrayList<>();
         this.levelStateObservers = new ArrayList<>();
-
-        init(new GameConfigurationReader(configPath));
+        this.renderableObservers = new ArrayList<>();
+        this.commands = new EnumMap<>(Direction.class);
+        this.commands.put(Direction.LEFT, new MoveLeftCommand(this));
+        this.commands.put(Direction.RIGHT, new MoveRightCommand(this));
+        this.commands.put(Direction.UP, new MoveUpCommand(this));
+        this.commands.put(Direction.DOWN, new MoveDownCommand(this));
+        this.scoreKeeper = new ScoreKeeper();
+
+        init(gameConfigurationReader);
     }
 
     private RenderableFactoryRegistry getRenderableFactoryRegistry() {
@@ -53,17 +116,17 @@ public class GameEngineImpl implements GameEngine {
         renderableFactoryRegistry.registerFactory(RenderableType.DOWN_LEFT_WALL, new WallFactory(RenderableType.DOWN_LEFT_WALL));
         renderableFactoryRegistry.registerFactory(RenderableType.DOWN_RIGHT_WALL, new WallFactory(RenderableType.DOWN_RIGHT_WALL));
         renderableFactoryRegistry.registerFactory(RenderableType.PELLET, new PelletFactory());
-        renderableFactoryRegistry.registerFactory(RenderableType.PACMAN, new PacmanFactory());
-        renderableFactoryRegistry.registerFactory(RenderableType.GHOST, new GhostFactory());
+        renderableFactoryRegistry.registerFactory(RenderableType.PACMAN, new PacmanFactory(movementInvoker));
+        renderableFactoryRegistry.registerFactory(RenderableType.GHOST, new GhostFactory(random));
 
 
 
 
         //register different types of ghosts
-        renderableFactoryRegistry.registerFactory(RenderableType.BLINKY,new GhostFactory());
-        renderableFactoryRegistry.registerFactory(RenderableType.PINKY,new GhostFactory());
-        renderableFactoryRegistry.registerFactory(RenderableType.INKY,new GhostFactory());
-        renderableFactoryRegistry.registerFactory(RenderableType.CLYDE,new GhostFactory());
+        renderableFactoryRegistry.registerFactory(RenderableType.BLINKY,new GhostFactory(random));
+        renderableFactoryRegistry.registerFactory(RenderableType.PINKY,new GhostFactory(random));
+        renderableFactoryRegistry.registerFactory(RenderableType.INKY,new GhostFactory(random));
+        renderableFactoryRegistry.registerFactory(RenderableType.CLYDE,new GhostFactory(random));
 
         //register for the power pellet
         renderableFactoryRegistry.registerFactory(RenderableType.POWER_PELLET,new PelletFactory());
@@ -74,7 +137,8 @@ public class GameEngineImpl implements GameEngine {
     private void init(GameConfigurationReader gameConfigurationReader) {
         // Set up map
         String mapFile = gameConfigurationReader.getMapFile();
-        MazeCreator mazeCreator = new MazeCreator(mapFile, renderableFactoryRegistry);
+        // the parsed map is shared by all engines; only the entities are created per game
+        MazeCreator mazeCreator = new MazeCreator(MazeTemplate.forFile(mapFile), renderableFactoryRegistry);
         this.maze = mazeCreator.createMaze();
         this.maze.setNumLives(gameConfigurationReader.getNumLives());
 
@@ -91,6 +155,95 @@ public class GameEngineImpl implements GameEngine {
         return this.currentLevel.getRenderables();
     }
 
+    @Override
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public void startRecording(OutputStream out) {
+        if (currentLevel != null) {
+            throw new IllegalStateException("Recording must start before the game");
+        }
+        try {
+            this.replayWriter = new ReplayWriter(out, seed, configPath);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start replay", e);
+        }
+        movementInvoker.setCommandObserver(this::recordMove);
+    }
+
+    private void recordMove(MoveCommand command) {
+        try {
+            replayWriter.writeMove(tickCount, command.getDirection());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to record move", e);
+        }
+    }
+
+    @Override
+    public void stopRecording() {
+        if (replayWriter == null) {
+            return;
+        }
+        movementInvoker.setCommandObserver(null);
+        try (ReplayWriter writer = replayWriter) {
+            replayWriter = null;
+            writer.writeEnd(tickCount);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to finish replay", e);
+        }
+    }
+
+    @Override
+    public void startSpectatorStream(OutputStream out, int keyframeInterval) {
+        if (spectatorWriter != null) {
+            throw new IllegalStateException("A spectator stream is already being written");
+        }
+        try {
+            this.spectatorWriter = new SpectatorStreamWriter(out, keyframeInterval);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start spectator stream", e);
+        }
+        // the writer keeps a running score like other observers, so it starts from the score so far
+        spectatorWriter.updateScore(score);
+        if (gameState != null) {
+            spectatorWriter.updateGameState(gameState);
+        }
+        registerObserver(spectatorWriter);
+        this.levelStateObservers.add(spectatorWriter);
+        if (currentLevel != null) {
+            currentLevel.registerObserver(spectatorWriter);
+        }
+        registerRenderableObserver(spectatorWriter);
+    }
+
+    @Override
+    public void stopSpectatorStream() {
+        if (spectatorWriter == null) {
+            return;
+        }
+        SpectatorStreamWriter writer = spectatorWriter;
+        spectatorWriter = null;
+        this.observers.remove(writer);
+        this.levelStateObservers.remove(writer);
+        this.renderableObservers.remove(writer);
+        if (currentLevel != null) {
+            currentLevel.removeObserver(writer);
+            currentLevel.removeRenderableObserver(writer);
+        }
+        try (writer) {
+            writer.writeEnd();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to finish spectator stream", e);
+        }
+    }
+
+    @Override
+    public MovementInvoker getMovementInvoker() {
+        return movementInvoker;
+    }
+
     @Override
     public void moveUp() {
         currentLevel.moveUp();
@@ -117,29 +270,105 @@ public class GameEngineImpl implements GameEngine {
     }
 
     private void startLevel() {
-        JSONObject levelConfig = (JSONObject) levelConfigs.get(currentLevelNo);
         // reset renderables to starting state
         maze.reset();
+        createLevel();
+        this.setGameState(GameState.READY);
+    }
+
+    private void createLevel() {
+        JSONObject levelConfig = (JSONObject) levelConfigs.get(currentLevelNo);
         this.currentLevel = new LevelImpl(levelConfig, maze);
+        this.currentLevel.registerObserver(scoreKeeper);
         for (LevelStateObserver observer : this.levelStateObservers) {
             this.currentLevel.registerObserver(observer);
         }
-        this.setGameState(GameState.READY);
+        for (RenderableObserver observer : this.renderableObservers) {
+            this.currentLevel.registerRenderableObserver(observer);
+        }
+    }
+
+    private void removeLevelObservers() {
+        this.currentLevel.removeObserver(scoreKeeper);
+        for (LevelStateObserver observer : this.levelStateObservers) {
+            this.currentLevel.removeObserver(observer);
+        }
+        for (RenderableObserver observer : this.renderableObservers) {
+            this.currentLevel.removeRenderableObserver(observer);
+        }
+    }
+
+    @Override
+    public GameSnapshot snapshot() {
+        if (currentLevel == null) {
+            throw new IllegalStateException("The game has not started");
+        }
+        return new GameSnapshot(currentLevelNo, gameState, tickCount, score, random.getState(),
+                getDirection(movementInvoker.getCurrentCommand()), getDirection(movementInvoker.getQueuedCommand()),
+                currentLevel.snapshot());
+    }
+
+    private static Direction getDirection(MoveCommand command) {
+        return command == null ? null : command.getDirection();
+    }
+
+    @Override
+    public void restore(GameSnapshot snapshot) {
+        if (currentLevel == null) {
+            throw new IllegalStateException("The game has not started");
+        }
+        if (snapshot.levelNo() < 0 || snapshot.levelNo() >= numLevels) {
+            throw new IllegalArgumentException("Snapshot level " + snapshot.levelNo() + " is not in this game");
+        }
+
+        // an ended game has removed its entities from the level, so it is rebuilt like a level switch
+        if (snapshot.levelNo() != currentLevelNo || isGameEnded()) {
+            removeLevelObservers();
+            this.currentLevelNo = snapshot.levelNo();
+            createLevel();
+        }
+
+        currentLevel.restore(snapshot.level());
+        if (snapshot.score() != score) {
+            // observers keep a running total, so they are told the difference
+            currentLevel.notifyObserversWithScoreChange(snapshot.score() - score);
+        }
+        random.setState(snapshot.randomState());
+        movementInvoker.restore(getCommand(snapshot.currentCommand()), getCommand(snapshot.queuedCommand()));
+        this.tickCount = snapshot.tickCount();
+
+        setGameState(snapshot.gameState());
+        if (isGameEnded()) {
+            currentLevel.handleGameEnd();
+        }
+    }
+
+    private MoveCommand getCommand(Direction direction) {
+        return direction == null ? null : commands.get(direction);
+    }
+
+    private boolean isGameEnded() {
+        return gameState == GameState.GAME_OVER || gameState == GameState.PLAYER_WIN;
     }
 
     @Override
     public void tick() {
         if (currentLevel.getNumLives() == 0) {
             handleGameOver();
-            return;
-        }
-
-        if (currentLevel.isLevelFinished()) {
+        } else if (currentLevel.isLevelFinished()) {
             handleLevelEnd();
-            return;
+        } else {
+            currentLevel.tick();
         }
+        tickCount++;
 
-        currentLevel.tick();
+        if (spectatorWriter != null) {
+            try {
+                spectatorWriter.writeFrame(tickCount);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write spectator frame", e);
+            }
+        }
     }
 
     private void handleLevelEnd() {
@@ -147,12 +376,7 @@ public class GameEngineImpl implements GameEngine {
             handlePlayerWins();
         } else {
             this.currentLevelNo += 1;
-
-            // remove observers
-            for (LevelStateObserver observer : this.levelStateObservers) {
-                this.currentLevel.removeObserver(observer);
-            }
-
+            removeLevelObservers();
             startLevel();
         }
     }
@@ -192,4 +416,30 @@ public class GameEngineImpl implements GameEngine {
     public void registerLevelStateObserver(LevelStateObserver observer) {
         this.levelStateObservers.add(observer);
     }
+
+    @Override
+    public void registerRenderableObserver(RenderableObserver observer) {
+        this.renderableObservers.add(observer);
+        if (this.currentLevel != null) {
+            this.currentLevel.registerRenderableObserver(observer);
+        }
+    }
+
+    /**
+     * Keeps the score over all levels, the way the score display adds it up
+     */
+    private class ScoreKeeper implements LevelStateObserver {
+        @Override
+        public void updateNumLives(int numLives) {
+        }
+
+        @Override
+        public void updateGameState(GameState gameState) {
+        }
+
+        @Override
+        public void updateScore(int scoreChange) {
+            score += scoreChange;
+        }
+    }
 }
@@ -0,0 +1,142 @@
+package pacman.model.engine.replay;
+
+import pacman.model.entity.dynamic.physics.Direction;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Recorded game: the seed and config it was created from, plus every move the player made and the tick it took
+ * effect on. Creating an engine from the same config and seed and giving it the same moves on the same ticks plays
+ * the game out identically.
+ * <p>
+ * Format (big-endian): magic {@code PMRP}, a version short, the seed as a long and the config path as modified
+ * UTF-8, followed by records of a variable-length tick gap to the previous record and a type byte (a
+ * {@link Direction} ordinal, or 255 for the end of the game). A replay whose end record is missing, e.g. because
+ * the game crashed, is read up to the last complete record.
+ */
+public final class Replay {
+
+    public static final int MAGIC = 0x504D5250; // "PMRP"
+    public static final int VERSION = 1;
+    static final int END = 0xFF;
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final long seed;
+    private final String configPath;
+    private final long[] ticks;
+    private final Direction[] moves;
+    private final long endTick;
+
+    private Replay(long seed, String configPath, long[] ticks, Direction[] moves, long endTick) {
+        this.seed = seed;
+        this.configPath = configPath;
+        this.ticks = ticks;
+        this.moves = moves;
+        this.endTick = endTick;
+    }
+
+    /**
+     * Reads a replay written by {@link ReplayWriter}
+     *
+     * @param in stream to read; not closed
+     * @return the replay
+     * @throws IOException if the stream cannot be read or is not a replay
+     */
+    public static Replay read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC) {
+            throw new IOException("Not a replay file");
+        }
+        int version = data.readUnsignedShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported replay version: " + version);
+        }
+        long seed = data.readLong();
+        String configPath = data.readUTF();
+
+        long[] ticks = new long[64];
+        Direction[] moves = new Direction[64];
+        int numMoves = 0;
+        long tick = 0;
+        long endTick = -1;
+        try {
+            while (true) {
+                tick += readDelta(data);
+                int type = data.readUnsignedByte();
+                if (type == END) {
+                    endTick = tick;
+                    break;
+                }
+                if (type >= DIRECTIONS.length) {
+                    throw new IOException("Unknown replay record type: " + type);
+                }
+                if (numMoves == ticks.length) {
+                    ticks = Arrays.copyOf(ticks, numMoves * 2);
+                    moves = Arrays.copyOf(moves, numMoves * 2);
+                }
+                ticks[numMoves] = tick;
+                moves[numMoves] = DIRECTIONS[type];
+                numMoves++;
+            }
+        } catch (EOFException e) {
+            // the recording stopped without an end record; keep the complete moves
+        }
+
+        return new Replay(seed, configPath, Arrays.copyOf(ticks, numMoves), Arrays.copyOf(moves, numMoves), endTick);
+    }
+
+    private static long readDelta(DataInputStream data) throws IOException {
+        long delta = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = data.readUnsignedByte();
+            delta |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return delta;
+            }
+        }
+        throw new IOException("Malformed replay tick");
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public String getConfigPath() {
+        return configPath;
+    }
+
+    /**
+     * @return number of recorded moves
+     */
+    public int getNumMoves() {
+        return moves.length;
+    }
+
+    /**
+     * @param index index of the move, in recording order
+     * @return tick the move took effect on
+     */
+    public long getTick(int index) {
+        return ticks[index];
+    }
+
+    /**
+     * @param index index of the move, in recording order
+     * @return direction of the move
+     */
+    public Direction getMove(int index) {
+        return moves[index];
+    }
+
+    /**
+     * @return number of ticks the recorded game ran for, or -1 if the replay has no end record
+     */
+    public long getEndTick() {
+        return endTick;
+    }
+}
@@ -0,0 +1,86 @@
+package pacman.model.engine.replay;
+
+import pacman.model.entity.dynamic.physics.Direction;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Streams a replay (see {@link Replay}) to an output stream while the game is played.
+ * <p>
+ * The header is written on construction and every move is appended as it is recorded, through a buffer, so a
+ * replay costs a couple of bytes per move and no per-tick I/O. Moves must be recorded in tick order.
+ */
+public final class ReplayWriter implements Closeable {
+
+    private final DataOutputStream out;
+    private long lastTick;
+
+    /**
+     * @param out        stream to write to; closed with the writer
+     * @param seed       seed of the recorded game
+     * @param configPath config the recorded game was created from
+     * @throws IOException if the header cannot be written
+     */
+    public ReplayWriter(OutputStream out, long seed, String configPath) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        this.out.writeInt(Replay.MAGIC);
+        this.out.writeShort(Replay.VERSION);
+        this.out.writeLong(seed);
+        this.out.writeUTF(configPath);
+    }
+
+    /**
+     * Appends a move
+     *
+     * @param tick      tick the move took effect on, counted from the start of the game
+     * @param direction direction of the move
+     * @throws IOException if the move cannot be written
+     */
+    public void writeMove(long tick, Direction direction) throws IOException {
+        writeRecord(tick, direction.ordinal());
+    }
+
+    /**
+     * Appends the end of the game, after which no more moves can be written
+     *
+     * @param tick number of ticks the recorded game ran for
+     * @throws IOException if the end cannot be written
+     */
+    public void writeEnd(long tick) throws IOException {
+        writeRecord(tick, Replay.END);
+        out.flush();
+    }
+
+    private void writeRecord(long tick, int type) throws IOException {
+        if (tick < lastTick) {
+            throw new IllegalArgumentException("Replay records must be in tick order: " + tick + " < " + lastTick);
+        }
+        // ticks are stored as the gap to the previous record, which is usually small enough for one byte
+        long delta = tick - lastTick;
+        while ((delta & ~0x7FL) != 0) {
+            out.writeByte((int) (delta & 0x7F) | 0x80);
+            delta >>>= 7;
+        }
+        out.writeByte((int) delta);
+        out.writeByte(type);
+        lastTick = tick;
+    }
+
+    /**
+     * Writes buffered moves through to the underlying stream
+     *
+     * @throws IOException if the moves cannot be written
+     */
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,311 @@
+package pacman.model.engine.spectator;
+
+import pacman.model.engine.observer.GameState;
+import pacman.model.entity.Renderable;
+import pacman.model.entity.Sprite;
+import pacman.model.entity.dynamic.physics.Direction;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+/**
+ * Follows a spectator stream written by {@link SpectatorStreamWriter}, keeping the latest state of every entity.
+ * <p>
+ * Format (big-endian): magic {@code PMSP} and a version short, followed by frames. A frame starts with a type byte
+ * (keyframe, delta or 255 for the end of the stream), the tick as a variable-length number and a byte flagging
+ * which of score (variable-length), lives (byte) and game state (ordinal byte) follow. Then come the entity updates:
+ * their count and, per entity, its id (left out in keyframes, which list every entity in id order), a byte
+ * flagging the fields that follow: position (two floats), direction, sprite and layer (ordinal bytes, direction
+ * -1 for none). Last come the ids of the pellets collected in the frame.
+ * <p>
+ * A reader that starts mid-stream, e.g. a spectator joining late, skips frames until the first keyframe.
+ */
+public final class SpectatorStreamReader {
+
+    public static final int MAGIC = 0x504D5350; // "PMSP"
+    public static final int VERSION = 1;
+
+    static final int KEYFRAME = 1;
+    static final int DELTA = 2;
+    static final int END = 0xFF;
+
+    static final int SCORE = 1;
+    static final int LIVES = 1 << 1;
+    static final int GAME_STATE = 1 << 2;
+
+    static final int POSITION = 1;
+    static final int DIRECTION = 1 << 1;
+    static final int SPRITE = 1 << 2;
+    static final int LAYER = 1 << 3;
+    static final int ALL_ENTITY_FIELDS = POSITION | DIRECTION | SPRITE | LAYER;
+
+    static final byte NONE = -1;
+
+    private static final GameState[] GAME_STATES = GameState.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final Sprite[] SPRITES = Sprite.values();
+    private static final Renderable.Layer[] LAYERS = Renderable.Layer.values();
+
+    private final DataInputStream in;
+    private float[] x = new float[0];
+    private float[] y = new float[0];
+    private Direction[] directions = new Direction[0];
+    private Sprite[] sprites = new Sprite[0];
+    private Renderable.Layer[] layers = new Renderable.Layer[0];
+    private int numEntities;
+    private int[] lastCollected = new int[0];
+    private int numLastCollected;
+
+    private long tick = -1;
+    private int score;
+    private int numLives;
+    private GameState gameState;
+    private boolean synced;
+    private boolean keyframe;
+    private boolean ended;
+
+    /**
+     * @param in stream to read; not closed
+     * @throws IOException if the stream cannot be read or is not a spectator stream
+     */
+    public SpectatorStreamReader(InputStream in) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(in));
+        if (this.in.readInt() != MAGIC) {
+            throw new IOException("Not a spectator stream");
+        }
+        int version = this.in.readUnsignedShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported spectator stream version: " + version);
+        }
+    }
+
+    /**
+     * Reads the next frame and applies it. Delta frames before the first keyframe are read but not applied.
+     *
+     * @return true, if a frame was read; false at the end of the stream
+     * @throws IOException if the stream cannot be read or is malformed
+     */
+    public boolean readFrame() throws IOException {
+        if (ended) {
+            return false;
+        }
+        int type;
+        try {
+            type = in.readUnsignedByte();
+        } catch (EOFException e) {
+            // the writer stopped without an end record
+            ended = true;
+            return false;
+        }
+        if (type == END) {
+            ended = true;
+            return false;
+        }
+        if (type != KEYFRAME && type != DELTA) {
+            throw new IOException("Unknown spectator frame type: " + type);
+        }
+        keyframe = type == KEYFRAME;
+        // deltas can only be applied on top of a keyframe
+        boolean apply = synced || keyframe;
+        synced = apply;
+
+        long frameTick = readVarLong();
+        int fields = in.readUnsignedByte();
+        int frameScore = (fields & SCORE) != 0 ? (int) readVarLong() : score;
+        int frameLives = (fields & LIVES) != 0 ? in.readUnsignedByte() : numLives;
+        GameState frameState = (fields & GAME_STATE) != 0 ? readEnum(GAME_STATES) : gameState;
+        if (apply) {
+            tick = frameTick;
+            score = frameScore;
+            numLives = frameLives;
+            gameState = frameState;
+        }
+
+        int numUpdates = readCount();
+        if (keyframe) {
+            numEntities = numUpdates;
+            ensureCapacity(numEntities);
+        }
+        for (int i = 0; i < numUpdates; i++) {
+            int id = keyframe ? i : readCount();
+            readEntity(id, apply);
+        }
+
+        numLastCollected = readCount();
+        if (lastCollected.length < numLastCollected) {
+            lastCollected = new int[numLastCollected];
+        }
+        for (int i = 0; i < numLastCollected; i++) {
+            int id = readCount();
+            lastCollected[i] = id;
+            if (apply && id < numEntities) {
+                layers[id] = Renderable.Layer.INVISIBLE;
+            }
+        }
+        if (!apply) {
+            numLastCollected = 0;
+        }
+        return true;
+    }
+
+    private void readEntity(int id, boolean apply) throws IOException {
+        int fields = in.readUnsignedByte();
+        float entityX = 0;
+        float entityY = 0;
+        if ((fields & POSITION) != 0) {
+            entityX = in.readFloat();
+            entityY = in.readFloat();
+        }
+        Direction direction = (fields & DIRECTION) != 0 ? readEnum(DIRECTIONS) : null;
+        Sprite sprite = (fields & SPRITE) != 0 ? readEnum(SPRITES) : null;
+        Renderable.Layer layer = (fields & LAYER) != 0 ? readEnum(LAYERS) : null;
+        if (!apply) {
+            return;
+        }
+
+        // entities added after the last keyframe extend the table
+        if (id >= numEntities) {
+            numEntities = id + 1;
+            ensureCapacity(numEntities);
+        }
+        if ((fields & POSITION) != 0) {
+            x[id] = entityX;
+            y[id] = entityY;
+        }
+        if ((fields & DIRECTION) != 0) {
+            directions[id] = direction;
+        }
+        if ((fields & SPRITE) != 0) {
+            sprites[id] = sprite;
+        }
+        if ((fields & LAYER) != 0) {
+            layers[id] = layer;
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > x.length) {
+            int newCapacity = Math.max(capacity, x.length * 2);
+            x = Arrays.copyOf(x, newCapacity);
+            y = Arrays.copyOf(y, newCapacity);
+            directions = Arrays.copyOf(directions, newCapacity);
+            sprites = Arrays.copyOf(sprites, newCapacity);
+            layers = Arrays.copyOf(layers, newCapacity);
+        }
+    }
+
+    private <E extends Enum<E>> E readEnum(E[] values) throws IOException {
+        int ordinal = in.readByte();
+        if (ordinal == NONE) {
+            return null;
+        }
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new IOException("Unknown " + values[0].getDeclaringClass().getSimpleName()
+                    + " in spectator stream: " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    private int readCount() throws IOException {
+        long count = readVarLong();
+        if (count > Integer.MAX_VALUE) {
+            throw new IOException("Malformed spectator stream count: " + count);
+        }
+        return (int) count;
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed spectator stream number");
+    }
+
+    /**
+     * @return true, if a keyframe has been read, so the state below is complete
+     */
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * @return true, if the last frame read was a keyframe
+     */
+    public boolean isKeyframe() {
+        return keyframe;
+    }
+
+    /**
+     * @return tick of the last applied frame, or -1 if none was applied
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getNumLives() {
+        return numLives;
+    }
+
+    /**
+     * @return state of the game, or null if it has not been sent yet
+     */
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    public int getNumEntities() {
+        return numEntities;
+    }
+
+    public float getX(int id) {
+        return x[id];
+    }
+
+    public float getY(int id) {
+        return y[id];
+    }
+
+    /**
+     * @param id id of the entity
+     * @return direction the entity is moving in, or null for static entities
+     */
+    public Direction getDirection(int id) {
+        return directions[id];
+    }
+
+    public Sprite getSprite(int id) {
+        return sprites[id];
+    }
+
+    public Renderable.Layer getLayer(int id) {
+        return layers[id];
+    }
+
+    /**
+     * @return number of pellets collected in the last frame read
+     */
+    public int getNumCollected() {
+        return numLastCollected;
+    }
+
+    /**
+     * @param index index of the pellet, less than {@link #getNumCollected()}
+     * @return id of a pellet collected in the last frame read
+     */
+    public int getCollected(int index) {
+        return lastCollected[index];
+    }
+}
@@ -0,0 +1,307 @@
+package pacman.model.engine.spectator;
+
+import pacman.model.engine.observer.GameState;
+import pacman.model.engine.observer.GameStateObserver;
+import pacman.model.entity.Renderable;
+import pacman.model.entity.dynamic.DynamicEntity;
+import pacman.model.entity.staticentity.collectable.Collectable;
+import pacman.model.level.observer.LevelStateObserver;
+import pacman.model.level.observer.RenderableObserver;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Streams the visible state of a game to spectators (see {@link SpectatorStreamReader}), one frame per tick.
+ * <p>
+ * A delta frame only holds what changed since the previous frame: the entities whose position, direction, sprite
+ * or layer changed, the pellets collected and the score, lives and game state if they changed. Static entities
+ * are only compared when the level reports them as changed, so a tick costs time and bytes in proportion to what
+ * moved, not to the number of renderables. Every {@code keyframeInterval} ticks a keyframe with the full state is
+ * written instead, so a spectator can join at any keyframe.
+ * <p>
+ * Entities are numbered in the order they are first added. Removed entities are sent as invisible.
+ */
+public final class SpectatorStreamWriter implements RenderableObserver, LevelStateObserver, GameStateObserver,
+        Closeable {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final DataOutputStream out;
+    private final int keyframeInterval;
+    private final Map<Renderable, Integer> ids;
+    private Renderable[] entities;
+    // state last sent for each entity
+    private float[] sentX;
+    private float[] sentY;
+    private byte[] sentDirection;
+    private byte[] sentSprite;
+    private byte[] sentLayer;
+    private boolean[] removed;
+    private final BitSet changed;
+    // moves can change the player outside a tick, so dynamic entities are compared every frame
+    private final BitSet dynamic;
+    private int[] updates;
+    private int[] collected;
+    private int numEntities;
+
+    private int score;
+    private int numLives;
+    private GameState gameState;
+    private int changedFields;
+    private long ticksSinceKeyframe;
+    private boolean keyframeDue;
+
+    /**
+     * @param out              stream to write to; closed with the writer
+     * @param keyframeInterval ticks between keyframes
+     * @throws IOException if the header cannot be written
+     */
+    public SpectatorStreamWriter(OutputStream out, int keyframeInterval) throws IOException {
+        if (keyframeInterval <= 0) {
+            throw new IllegalArgumentException("Keyframe interval must be positive: " + keyframeInterval);
+        }
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        this.keyframeInterval = keyframeInterval;
+        this.ids = new IdentityHashMap<>();
+        this.entities = new Renderable[INITIAL_CAPACITY];
+        this.sentX = new float[INITIAL_CAPACITY];
+        this.sentY = new float[INITIAL_CAPACITY];
+        this.sentDirection = new byte[INITIAL_CAPACITY];
+        this.sentSprite = new byte[INITIAL_CAPACITY];
+        this.sentLayer = new byte[INITIAL_CAPACITY];
+        this.removed = new boolean[INITIAL_CAPACITY];
+        this.changed = new BitSet(INITIAL_CAPACITY);
+        this.dynamic = new BitSet();
+        this.updates = new int[INITIAL_CAPACITY];
+        this.collected = new int[16];
+        this.keyframeDue = true;
+
+        this.out.writeInt(SpectatorStreamReader.MAGIC);
+        this.out.writeShort(SpectatorStreamReader.VERSION);
+        // sent right away so spectators can open the stream before the first frame
+        this.out.flush();
+    }
+
+    @Override
+    public void renderableAdded(Renderable renderable) {
+        Integer id = ids.get(renderable);
+        if (id == null) {
+            id = numEntities++;
+            ids.put(renderable, id);
+            ensureCapacity(numEntities);
+            entities[id] = renderable;
+            // new entities have nothing sent yet, so every field differs
+            sentDirection[id] = SpectatorStreamReader.NONE;
+            sentSprite[id] = SpectatorStreamReader.NONE;
+            sentLayer[id] = SpectatorStreamReader.NONE;
+            sentX[id] = Float.NaN;
+            sentY[id] = Float.NaN;
+            if (renderable instanceof DynamicEntity) {
+                dynamic.set(id);
+            }
+        }
+        removed[id] = false;
+        changed.set(id);
+    }
+
+    @Override
+    public void renderableRemoved(Renderable renderable) {
+        Integer id = ids.get(renderable);
+        if (id != null) {
+            removed[id] = true;
+            changed.set(id);
+        }
+    }
+
+    @Override
+    public void renderableChanged(Renderable renderable) {
+        Integer id = ids.get(renderable);
+        if (id != null) {
+            changed.set(id);
+        }
+    }
+
+    @Override
+    public void updateNumLives(int numLives) {
+        this.numLives = numLives;
+        this.changedFields |= SpectatorStreamReader.LIVES;
+    }
+
+    @Override
+    public void updateGameState(GameState gameState) {
+        this.gameState = gameState;
+        this.changedFields |= SpectatorStreamReader.GAME_STATE;
+    }
+
+    @Override
+    public void updateScore(int scoreChange) {
+        this.score += scoreChange;
+        this.changedFields |= SpectatorStreamReader.SCORE;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= entities.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, entities.length * 2);
+        entities = Arrays.copyOf(entities, newCapacity);
+        sentX = Arrays.copyOf(sentX, newCapacity);
+        sentY = Arrays.copyOf(sentY, newCapacity);
+        sentDirection = Arrays.copyOf(sentDirection, newCapacity);
+        sentSprite = Arrays.copyOf(sentSprite, newCapacity);
+        sentLayer = Arrays.copyOf(sentLayer, newCapacity);
+        removed = Arrays.copyOf(removed, newCapacity);
+        updates = Arrays.copyOf(updates, newCapacity);
+    }
+
+    /**
+     * Writes the frame of a finished tick, holding the changes reported since the previous frame
+     *
+     * @param tick ticks since the game was started
+     * @throws IOException if the frame cannot be written
+     */
+    public void writeFrame(long tick) throws IOException {
+        boolean keyframe = keyframeDue || ++ticksSinceKeyframe >= keyframeInterval;
+        if (keyframe) {
+            ticksSinceKeyframe = 0;
+            keyframeDue = false;
+        }
+
+        changed.or(dynamic);
+        int numUpdates = 0;
+        int numCollected = 0;
+        for (int id = keyframe ? 0 : changed.nextSetBit(0); id >= 0 && id < numEntities;
+             id = keyframe ? id + 1 : changed.nextSetBit(id + 1)) {
+            Renderable entity = entities[id];
+            byte layer = (byte) (removed[id] ? Renderable.Layer.INVISIBLE.ordinal() : entity.getLayer().ordinal());
+            int fields = getChangedFields(id, entity, layer);
+            if (keyframe) {
+                updates[numUpdates++] = id;
+            } else if (fields == SpectatorStreamReader.LAYER && entity instanceof Collectable
+                    && layer == Renderable.Layer.INVISIBLE.ordinal()) {
+                // a pellet disappearing is the common case, so it is sent as just its id
+                if (numCollected == collected.length) {
+                    collected = Arrays.copyOf(collected, numCollected * 2);
+                }
+                collected[numCollected++] = id;
+                sentLayer[id] = layer;
+            } else if (fields != 0) {
+                updates[numUpdates++] = id;
+            }
+        }
+        changed.clear();
+
+        out.writeByte(keyframe ? SpectatorStreamReader.KEYFRAME : SpectatorStreamReader.DELTA);
+        writeVarLong(tick);
+
+        int fields = keyframe ? SpectatorStreamReader.SCORE | SpectatorStreamReader.LIVES
+                | (gameState != null ? SpectatorStreamReader.GAME_STATE : 0) : changedFields;
+        out.writeByte(fields);
+        if ((fields & SpectatorStreamReader.SCORE) != 0) {
+            writeVarLong(score);
+        }
+        if ((fields & SpectatorStreamReader.LIVES) != 0) {
+            out.writeByte(numLives);
+        }
+        if ((fields & SpectatorStreamReader.GAME_STATE) != 0) {
+            out.writeByte(gameState.ordinal());
+        }
+        changedFields = 0;
+
+        writeVarLong(keyframe ? numEntities : numUpdates);
+        for (int i = 0; i < numUpdates; i++) {
+            writeEntity(updates[i], keyframe);
+        }
+
+        writeVarLong(numCollected);
+        for (int i = 0; i < numCollected; i++) {
+            writeVarLong(collected[i]);
+        }
+        out.flush();
+    }
+
+    private int getChangedFields(int id, Renderable entity, byte layer) {
+        int fields = 0;
+        float x = (float) entity.getPosition().getX();
+        float y = (float) entity.getPosition().getY();
+        if (x != sentX[id] || y != sentY[id]) {
+            fields |= SpectatorStreamReader.POSITION;
+        }
+        if (getDirection(entity) != sentDirection[id]) {
+            fields |= SpectatorStreamReader.DIRECTION;
+        }
+        if ((byte) entity.getSprite().ordinal() != sentSprite[id]) {
+            fields |= SpectatorStreamReader.SPRITE;
+        }
+        if (layer != sentLayer[id]) {
+            fields |= SpectatorStreamReader.LAYER;
+        }
+        return fields;
+    }
+
+    private static byte getDirection(Renderable entity) {
+        return entity instanceof DynamicEntity dynamicEntity && dynamicEntity.getDirection() != null
+                ? (byte) dynamicEntity.getDirection().ordinal() : SpectatorStreamReader.NONE;
+    }
+
+    private void writeEntity(int id, boolean keyframe) throws IOException {
+        Renderable entity = entities[id];
+        byte layer = (byte) (removed[id] ? Renderable.Layer.INVISIBLE.ordinal() : entity.getLayer().ordinal());
+        int fields = keyframe ? SpectatorStreamReader.ALL_ENTITY_FIELDS : getChangedFields(id, entity, layer);
+
+        // keyframes list every entity in id order, so the ids are left out
+        if (!keyframe) {
+            writeVarLong(id);
+        }
+        out.writeByte(fields);
+        if ((fields & SpectatorStreamReader.POSITION) != 0) {
+            sentX[id] = (float) entity.getPosition().getX();
+            sentY[id] = (float) entity.getPosition().getY();
+            out.writeFloat(sentX[id]);
+            out.writeFloat(sentY[id]);
+        }
+        if ((fields & SpectatorStreamReader.DIRECTION) != 0) {
+            sentDirection[id] = getDirection(entity);
+            out.writeByte(sentDirection[id]);
+        }
+        if ((fields & SpectatorStreamReader.SPRITE) != 0) {
+            sentSprite[id] = (byte) entity.getSprite().ordinal();
+            out.writeByte(sentSprite[id]);
+        }
+        if ((fields & SpectatorStreamReader.LAYER) != 0) {
+            sentLayer[id] = layer;
+            out.writeByte(layer);
+        }
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Appends the end of the stream, after which no more frames can be written
+     *
+     * @throws IOException if the end cannot be written
+     */
+    public void writeEnd() throws IOException {
+        out.writeByte(SpectatorStreamReader.END);
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -1,6 +1,5 @@
 package pacman.model.entity;
 
-import javafx.scene.image.Image;
 import pacman.model.entity.dynamic.physics.BoundingBox;
 import pacman.model.entity.dynamic.physics.Vector2D;
 
@@ -10,9 +9,9 @@ import pacman.model.entity.dynamic.physics.Vector2D;
 public interface Renderable {
 
     /**
-     * @return image of renderable
+     * @return sprite of renderable
      */
-    Image getImage();
+    Sprite getSprite();
 
     /**
      * @return width of renderable image
@@ -51,6 +50,14 @@ public interface Renderable {
      */
     void reset();
 
+    /**
+     * Gets a counter that changes whenever the position, sprite or layer of the renderable changes.
+     * Views can compare it with the value they last drew to skip renderables that did not change.
+     *
+     * @return version of the renderable's appearance
+     */
+    long getVersion();
+
     /**
      * The set of available layers
      */
@@ -0,0 +1,58 @@
+package pacman.model.entity;
+
+/**
+ * Handle for the sprite a renderable is drawn with.
+ * <p>
+ * The model only refers to sprites by handle; the view resolves them to images. This keeps the model free
+ * of the JavaFX toolkit, so it can be instantiated and ticked headless.
+ */
+public enum Sprite {
+    PACMAN_UP("maze/pacman/playerUp.png", 26, 24),
+    PACMAN_DOWN("maze/pacman/playerDown.png", 26, 24),
+    PACMAN_LEFT("maze/pacman/playerLeft.png", 24, 26),
+    PACMAN_RIGHT("maze/pacman/playerRight.png", 24, 26),
+    PACMAN_CLOSED("maze/pacman/playerClosed.png", 24, 26),
+    BLINKY("maze/ghosts/blinky.png", 28, 28),
+    PINKY("maze/ghosts/pinky.png", 28, 28),
+    INKY("maze/ghosts/inky.png", 28, 28),
+    CLYDE("maze/ghosts/clyde.png", 28, 28),
+    FRIGHTENED_GHOST("maze/ghosts/frightened.png", 28, 28),
+    PELLET("maze/pellet.png", 16, 16),
+    HORIZONTAL_WALL("maze/walls/horizontal.png", 16, 16),
+    VERTICAL_WALL("maze/walls/vertical.png", 16, 16),
+    UP_LEFT_WALL("maze/walls/upLeft.png", 16, 16),
+    UP_RIGHT_WALL("maze/walls/upRight.png", 16, 16),
+    DOWN_LEFT_WALL("maze/walls/downLeft.png", 16, 16),
+    DOWN_RIGHT_WALL("maze/walls/downRight.png", 16, 16);
+
+    private final String resourcePath;
+    private final double width;
+    private final double height;
+
+    Sprite(String resourcePath, double width, double height) {
+        this.resourcePath = resourcePath;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * @return classpath location of the sprite's image
+     */
+    public String getResourcePath() {
+        return resourcePath;
+    }
+
+    /**
+     * @return natural width of the sprite's image, in pixels
+     */
+    public double getWidth() {
+        return width;
+    }
+
+    /**
+     * @return natural height of the sprite's image, in pixels
+     */
+    public double getHeight() {
+        return height;
+    }
+}
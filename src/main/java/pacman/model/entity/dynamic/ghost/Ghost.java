@@ -1,14 +1,16 @@
 package pacman.model.entity.dynamic.ghost;
 
-import javafx.scene.image.Image;
 import pacman.model.decorator.Component;
+import pacman.model.entity.Sprite;
 import pacman.model.entity.dynamic.DynamicEntity;
 import pacman.model.entity.dynamic.physics.Direction;
 import pacman.model.entity.dynamic.physics.KinematicState;
 import pacman.model.entity.dynamic.physics.Vector2D;
 import pacman.model.entity.dynamic.player.observer.PlayerPositionObserver;
+import pacman.model.snapshot.GhostSnapshot;
 import pacman.model.state.GhostState;
 import pacman.model.strategy.GhostChaseStrategy;
+import pacman.model.strategy.GhostNavigationStrategy;
 
 import java.util.Map;
 import java.util.Set;
@@ -64,6 +66,13 @@ public interface Ghost extends DynamicEntity, PlayerPositionObserver, Component
      */
     void setChaseStrategy(GhostChaseStrategy chaseStrategy);
 
+    /**
+     * Sets how the Ghost measures the distance to its target when choosing a direction,
+     * e.g. straight-line distance or walking distance through the maze.
+     * @param navigationStrategy the navigation strategy to assign
+     */
+    void setNavigationStrategy(GhostNavigationStrategy navigationStrategy);
+
     /**
      * Retrieves the Ghost's target position for chase mode.
      * @return the chase target position as a Vector2D
@@ -125,25 +134,25 @@ public interface Ghost extends DynamicEntity, PlayerPositionObserver, Component
      */
     GhostState getFrightenedState();
 
-    // Image management for different states
+    // Sprite management for different states
 
     /**
-     * Retrieves the image representing the Ghost in its normal state.
-     * @return the image for the normal state
+     * Retrieves the sprite representing the Ghost in its normal state.
+     * @return the sprite for the normal state
      */
-    Image getNormalImage();
+    Sprite getNormalSprite();
 
     /**
-     * Retrieves the image representing the Ghost in its frightened state.
-     * @return the image for the frightened state
+     * Retrieves the sprite representing the Ghost in its frightened state.
+     * @return the sprite for the frightened state
      */
-    Image getFrightenedImage();
+    Sprite getFrightenedSprite();
 
     /**
-     * Sets the current image of the Ghost, allowing for dynamic changes based on state.
-     * @param currentImage the image to set
+     * Sets the current sprite of the Ghost, allowing for dynamic changes based on state.
+     * @param currentSprite the sprite to set
      */
-    void setCurrentImage(Image currentImage);
+    void setCurrentSprite(Sprite currentSprite);
 
     // Pause and direction management
 
@@ -193,4 +202,18 @@ public interface Ghost extends DynamicEntity, PlayerPositionObserver, Component
      */
     int getPoints(int consecutiveGhostsEaten);
 
+    // Snapshots
+
+    /**
+     * Captures the state of the Ghost, e.g. to roll the game back later.
+     * @return snapshot of the Ghost
+     */
+    GhostSnapshot snapshot();
+
+    /**
+     * Puts the Ghost back into a captured state.
+     * @param snapshot state to restore
+     */
+    void restore(GhostSnapshot snapshot);
+
 }
@@ -1,15 +1,19 @@
 package pacman.model.entity.dynamic.ghost;
 
-import javafx.scene.image.Image;
 import pacman.model.entity.Renderable;
+import pacman.model.entity.Sprite;
 import pacman.model.entity.dynamic.physics.*;
 import pacman.model.level.Level;
+import pacman.model.snapshot.GhostSnapshot;
+import pacman.model.snapshot.KinematicSnapshot;
 import pacman.model.state.FrightenedState;
 import pacman.model.state.GhostState;
 import pacman.model.state.NormalState;
 import pacman.model.maze.Maze;
+import pacman.model.strategy.EuclideanNavigationStrategy;
 import pacman.model.strategy.GhostChaseStrategy;
-import pacman.util.ResourceUtils;
+import pacman.model.strategy.GhostNavigationStrategy;
+import pacman.util.SplitMix64;
 
 import java.util.*;
 
@@ -19,13 +23,15 @@ import java.util.*;
 public class GhostImpl implements Ghost {
 
     private static final int minimumDirectionCount = 8;
+    private static final Direction[] DIRECTIONS = Direction.values();
     private final Layer layer = Layer.FOREGROUND;
-    private final Image image;
+    private final Sprite sprite;
 
 
-    //Set up different images for different types of ghosts
-    private final Image frightenedImage = new Image(ResourceUtils.toExternalForm("maze/ghosts/frightened.png"));
-    private Image currentImage;
+    //Set up different sprites for different types of ghosts
+    private final Sprite frightenedSprite = Sprite.FRIGHTENED_GHOST;
+    private Sprite currentSprite;
+    private long version;
 
 
     private final BoundingBox boundingBox;
@@ -52,6 +58,9 @@ public class GhostImpl implements Ghost {
     // The target position for the Ghost during chase mode, calculated based on the chase strategy
     private Vector2D chaseTargetPosition;
 
+    // How the Ghost measures the distance to its target when choosing a direction
+    private GhostNavigationStrategy navigationStrategy = new EuclideanNavigationStrategy();
+
     // Current state of the Ghost, which could vary between normal, frightened state.
     GhostState currentState;
 
@@ -74,8 +83,8 @@ public class GhostImpl implements Ghost {
     private int frightenedTickCount = 0;
 
 
-    public GhostImpl(Image image, BoundingBox boundingBox, KinematicState kinematicState, GhostMode ghostMode, Vector2D targetCorner) {
-        this.image = image;
+    public GhostImpl(Sprite sprite, BoundingBox boundingBox, KinematicState kinematicState, GhostMode ghostMode, Vector2D targetCorner) {
+        this.sprite = sprite;
         this.boundingBox = boundingBox;
         this.kinematicState = kinematicState;
         this.startingPosition = kinematicState.getPosition();
@@ -88,8 +97,8 @@ public class GhostImpl implements Ghost {
     }
 
 
-    public GhostImpl(Image image, BoundingBox boundingBox, KinematicState kinematicState, GhostMode ghostMode, Vector2D targetCorner, char ghostType, GhostChaseStrategy chaseStrategy) {
-        this.image = image;
+    public GhostImpl(Sprite sprite, BoundingBox boundingBox, KinematicState kinematicState, GhostMode ghostMode, Vector2D targetCorner, char ghostType, GhostChaseStrategy chaseStrategy, SplitMix64 random) {
+        this.sprite = sprite;
         this.boundingBox = boundingBox;
         this.kinematicState = kinematicState;
         this.startingPosition = kinematicState.getPosition();
@@ -105,11 +114,11 @@ public class GhostImpl implements Ghost {
         this.chaseStrategy = chaseStrategy;
 
 
-        //initialize different state and set the current image to normal ghost image
+        //initialize different state and set the current sprite to normal ghost sprite
         this.normalState = new NormalState(this);
         this.currentState = normalState;
-        this.frightenedState = new FrightenedState(this);
-        this.currentImage = image;
+        this.frightenedState = new FrightenedState(this, random);
+        this.currentSprite = sprite;
 
 
     }
@@ -120,8 +129,8 @@ public class GhostImpl implements Ghost {
     }
 
     @Override
-    public Image getImage() {
-        return currentImage;
+    public Sprite getSprite() {
+        return currentSprite;
     }
 
     @Override
@@ -141,8 +150,13 @@ public class GhostImpl implements Ghost {
 
 
         currentState.updateDirection();
+        double x = kinematicState.getX();
+        double y = kinematicState.getY();
         this.kinematicState.update();
-        this.boundingBox.setTopLeft(this.kinematicState.getPosition());
+        this.boundingBox.setTopLeft(this.kinematicState.getX(), this.kinematicState.getY());
+        if (kinematicState.getX() != x || kinematicState.getY() != y) {
+            this.version++;
+        }
     }
 
     public void updateDirection() {
@@ -186,22 +200,25 @@ public class GhostImpl implements Ghost {
             return currentDirection;
         }
 
-        Map<Direction, Double> distances = new HashMap<>();
+        // ghosts never choose to reverse travel
+        Direction reverse = currentDirection == null ? null : currentDirection.opposite();
+        Direction bestDirection = null;
+        double bestDistance = Double.POSITIVE_INFINITY;
 
-        for (Direction direction : possibleDirections) {
-            // ghosts never choose to reverse travel
-            if (currentDirection == null || direction != currentDirection.opposite()) {
-                distances.put(direction, Vector2D.calculateEuclideanDistance(this.kinematicState.getPotentialPosition(direction), this.targetLocation));
+        // select the direction that will reach the target location fastest, preferring earlier directions on ties
+        for (Direction direction : DIRECTIONS) {
+            if (direction == reverse || !possibleDirections.contains(direction)) {
+                continue;
+            }
+            double distance = navigationStrategy.getDistance(this, direction, this.targetLocation);
+            if (bestDirection == null || distance < bestDistance) {
+                bestDirection = direction;
+                bestDistance = distance;
             }
         }
 
         // only go the opposite way if trapped
-        if (distances.isEmpty()) {
-            return currentDirection.opposite();
-        }
-
-        // select the direction that will reach the target location fastest
-        return Collections.min(distances.entrySet(), Map.Entry.comparingByValue()).getKey();
+        return bestDirection != null ? bestDirection : reverse;
     }
 
     @Override
@@ -253,6 +270,9 @@ public class GhostImpl implements Ghost {
 
     @Override
     public void setPosition(Vector2D position) {
+        if (position.getX() != kinematicState.getX() || position.getY() != kinematicState.getY()) {
+            this.version++;
+        }
         this.kinematicState.setPosition(position);
     }
 
@@ -269,8 +289,8 @@ public class GhostImpl implements Ghost {
     @Override
     public void reset() {
 
-        // Set the current image of the Ghost to its normal appearance
-        setCurrentImage(getNormalImage());
+        // Set the current sprite of the Ghost to its normal appearance
+        setCurrentSprite(getNormalSprite());
 
        // Reset the frightened tick counter, as the Ghost is returning to its normal state
         resetFrightenedTickCount();
@@ -292,7 +312,32 @@ public class GhostImpl implements Ghost {
         this.boundingBox.setTopLeft(startingPosition);
         this.ghostMode = GhostMode.SCATTER;
         this.currentDirectionCount = minimumDirectionCount;
+        this.version++;
+    }
+
+    @Override
+    public GhostSnapshot snapshot() {
+        return new GhostSnapshot(KinematicSnapshot.of(kinematicState), ghostMode,
+                currentState != null && currentState == frightenedState, currentSprite,
+                currentDirection, currentDirectionCount, targetLocation, chaseTargetPosition,
+                isPaused, pauseTickCount, frightenedTickCount);
+    }
 
+    @Override
+    public void restore(GhostSnapshot snapshot) {
+        this.kinematicState = snapshot.kinematics().toKinematicState();
+        this.boundingBox.setTopLeft(this.kinematicState.getX(), this.kinematicState.getY());
+        this.ghostMode = snapshot.ghostMode();
+        this.currentState = snapshot.frightened() ? frightenedState : normalState;
+        this.currentSprite = snapshot.sprite();
+        this.currentDirection = snapshot.currentDirection();
+        this.currentDirectionCount = snapshot.currentDirectionCount();
+        this.targetLocation = snapshot.targetLocation();
+        this.chaseTargetPosition = snapshot.chaseTargetPosition();
+        this.isPaused = snapshot.paused();
+        this.pauseTickCount = snapshot.pauseTickCount();
+        this.frightenedTickCount = snapshot.frightenedTickCount();
+        this.version++;
     }
 
     @Override
@@ -325,6 +370,11 @@ public class GhostImpl implements Ghost {
         this.chaseStrategy = chaseStrategy;
     }
 
+    @Override
+    public void setNavigationStrategy(GhostNavigationStrategy navigationStrategy) {
+        this.navigationStrategy = navigationStrategy;
+    }
+
     public Vector2D getChaseTargetPosition() {
         return chaseTargetPosition;
     }
@@ -368,8 +418,8 @@ public class GhostImpl implements Ghost {
     }
 
     @Override
-    public Image getFrightenedImage() {
-        return frightenedImage;
+    public Sprite getFrightenedSprite() {
+        return frightenedSprite;
     }
 
 
@@ -379,14 +429,22 @@ public class GhostImpl implements Ghost {
     }
 
     @Override
-    public void setCurrentImage(Image currentImage) {
-        this.currentImage = currentImage;
+    public void setCurrentSprite(Sprite currentSprite) {
+        if (this.currentSprite != currentSprite) {
+            this.currentSprite = currentSprite;
+            this.version++;
+        }
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
     }
 
 
     @Override
-    public Image getNormalImage() {
-        return image;
+    public Sprite getNormalSprite() {
+        return sprite;
     }
 
     @Override
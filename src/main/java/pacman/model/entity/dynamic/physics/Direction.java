@@ -4,7 +4,33 @@ package pacman.model.entity.dynamic.physics;
  * Represents the cardinal directions allowed for movement in Pac-Man
  */
 public enum Direction {
-    UP, DOWN, LEFT, RIGHT;
+    UP(0, -1), DOWN(0, 1), LEFT(-1, 0), RIGHT(1, 0);
+
+    private final int xOffset;
+    private final int yOffset;
+
+    Direction(int xOffset, int yOffset) {
+        this.xOffset = xOffset;
+        this.yOffset = yOffset;
+    }
+
+    /**
+     * Gets the change in grid X position when moving one tile in this direction
+     *
+     * @return -1, 0 or 1
+     */
+    public int getXOffset() {
+        return xOffset;
+    }
+
+    /**
+     * Gets the change in grid Y position when moving one tile in this direction
+     *
+     * @return -1, 0 or 1
+     */
+    public int getYOffset() {
+        return yOffset;
+    }
 
     /**
      * Retrieves the opposite direction
@@ -20,6 +20,16 @@ public interface KinematicState {
      */
     void setPosition(Vector2D position);
 
+    /**
+     * @return double The x coordinate of the current position.
+     */
+    double getX();
+
+    /**
+     * @return double The y coordinate of the current position.
+     */
+    double getY();
+
     /**
      * Retrieves the potential position given a possible direction
      *
@@ -28,6 +38,22 @@ public interface KinematicState {
      */
     Vector2D getPotentialPosition(Direction direction);
 
+    /**
+     * Retrieves the x coordinate of the potential position given a possible direction, without allocating
+     *
+     * @param direction the direction
+     * @return the x coordinate of the position given the direction
+     */
+    double getPotentialX(Direction direction);
+
+    /**
+     * Retrieves the y coordinate of the potential position given a possible direction, without allocating
+     *
+     * @param direction the direction
+     * @return the y coordinate of the position given the direction
+     */
+    double getPotentialY(Direction direction);
+
     /**
      * Gets the speed of the Dynamic entity
      *
@@ -4,52 +4,88 @@ package pacman.model.entity.dynamic.physics;
  * Discrete kinematic state implementation.
  */
 public class KinematicStateImpl implements KinematicState {
+    // coordinates are kept as primitives so updates do not allocate; the Vector2D views are created on demand
+    private double x;
+    private double y;
+    private double previousX;
+    private double previousY;
     private Vector2D position;
     private Vector2D previousPosition;
     private double speed;
-    private Vector2D velocity;
+    private double velocityX;
+    private double velocityY;
     private Direction direction;
 
     private KinematicStateImpl(
             Vector2D position,
+            Vector2D previousPosition,
             double speed,
             Direction direction
     ) {
+        this.x = position.getX();
+        this.y = position.getY();
+        this.previousX = previousPosition.getX();
+        this.previousY = previousPosition.getY();
         this.position = position;
-        this.previousPosition = position;
+        this.previousPosition = previousPosition;
         this.speed = speed;
-        this.velocity = createVelocityVector(direction);
         this.direction = direction;
+        updateVelocity();
     }
 
     @Override
     public Vector2D getPosition() {
+        if (this.position == null) {
+            this.position = new Vector2D(x, y);
+        }
         return this.position;
     }
 
     @Override
     public void setPosition(Vector2D position) {
+        this.x = position.getX();
+        this.y = position.getY();
         this.position = position;
     }
 
+    @Override
+    public double getX() {
+        return this.x;
+    }
+
+    @Override
+    public double getY() {
+        return this.y;
+    }
+
     @Override
     public void update() {
+        this.previousX = x;
+        this.previousY = y;
         this.previousPosition = position;
-        this.position = this.position.add(this.velocity);
+        this.x += velocityX;
+        this.y += velocityY;
+        this.position = null;
     }
 
-    private Vector2D createVelocityVector(Direction direction) {
-        return switch (direction) {
-            case LEFT -> new Vector2D(-speed, 0);
-            case RIGHT -> new Vector2D(speed, 0);
-            case UP -> new Vector2D(0, -speed);
-            case DOWN -> new Vector2D(0, speed);
-        };
+    private void updateVelocity() {
+        this.velocityX = direction.getXOffset() * speed;
+        this.velocityY = direction.getYOffset() * speed;
     }
 
     @Override
     public Vector2D getPotentialPosition(Direction direction) {
-        return this.position.add(createVelocityVector(direction));
+        return new Vector2D(getPotentialX(direction), getPotentialY(direction));
+    }
+
+    @Override
+    public double getPotentialX(Direction direction) {
+        return this.x + direction.getXOffset() * speed;
+    }
+
+    @Override
+    public double getPotentialY(Direction direction) {
+        return this.y + direction.getYOffset() * speed;
     }
 
     @Override
@@ -60,25 +96,25 @@ public class KinematicStateImpl implements KinematicState {
     @Override
     public void left() {
         this.direction = Direction.LEFT;
-        this.velocity = createVelocityVector(Direction.LEFT);
+        updateVelocity();
     }
 
     @Override
     public void right() {
         this.direction = Direction.RIGHT;
-        this.velocity = createVelocityVector(Direction.RIGHT);
+        updateVelocity();
     }
 
     @Override
     public void up() {
         this.direction = Direction.UP;
-        this.velocity = createVelocityVector(Direction.UP);
+        updateVelocity();
     }
 
     @Override
     public void down() {
         this.direction = Direction.DOWN;
-        this.velocity = createVelocityVector(Direction.DOWN);
+        updateVelocity();
     }
 
     @Override
@@ -89,16 +125,21 @@ public class KinematicStateImpl implements KinematicState {
     @Override
     public void setSpeed(double speed) {
         this.speed = speed;
-        this.velocity = createVelocityVector(direction);
+        updateVelocity();
     }
 
     @Override
     public Vector2D getPreviousPosition() {
+        if (this.previousPosition == null) {
+            this.previousPosition = new Vector2D(previousX, previousY);
+        }
         return previousPosition;
     }
 
     public static class KinematicStateBuilder {
         private Vector2D position = Vector2D.ZERO;
+        // defaults to the position, i.e. the entity has not moved yet
+        private Vector2D previousPosition;
         private double speed = 0;
         private Direction direction = Direction.LEFT;
 
@@ -107,6 +148,11 @@ public class KinematicStateImpl implements KinematicState {
             return this;
         }
 
+        public KinematicStateBuilder setPreviousPosition(Vector2D previousPosition) {
+            this.previousPosition = previousPosition;
+            return this;
+        }
+
         public KinematicStateBuilder setSpeed(double speed) {
             this.speed = speed;
             return this;
@@ -120,6 +166,7 @@ public class KinematicStateImpl implements KinematicState {
         public KinematicStateImpl build() {
             return new KinematicStateImpl(
                     this.position,
+                    this.previousPosition != null ? this.previousPosition : this.position,
                     this.speed,
                     this.direction
             );
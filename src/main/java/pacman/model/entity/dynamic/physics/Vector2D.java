@@ -17,9 +17,13 @@ public class Vector2D {
     }
 
     public static double calculateEuclideanDistance(Vector2D vector1, Vector2D vector2) {
-        double xDistance = vector2.getX() - vector1.getX();
-        double yDistance = vector2.getY() - vector1.getY();
-        return Math.sqrt(Math.pow(xDistance, 2) + Math.pow(yDistance, 2));
+        return calculateEuclideanDistance(vector1.getX(), vector1.getY(), vector2.getX(), vector2.getY());
+    }
+
+    public static double calculateEuclideanDistance(double x1, double y1, double x2, double y2) {
+        double xDistance = x2 - x1;
+        double yDistance = y2 - y1;
+        return Math.sqrt(xDistance * xDistance + yDistance * yDistance);
     }
 
     public double getX() {
@@ -50,6 +54,18 @@ public class Vector2D {
         return this.y > y;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Vector2D other
+                && Double.compare(this.x, other.x) == 0
+                && Double.compare(this.y, other.y) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Double.hashCode(this.x) + Double.hashCode(this.y);
+    }
+
     @Override
     public String toString() {
         return "(" + this.x + ", " + this.y + ")";
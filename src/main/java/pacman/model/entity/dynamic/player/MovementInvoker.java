@@ -1,42 +1,62 @@
 package pacman.model.entity.dynamic.player;
 
 import pacman.model.entity.dynamic.physics.Direction;
-import pacman.view.keyboard.command.MoveCommand;
+import pacman.model.entity.dynamic.player.command.MoveCommand;
+import pacman.util.SpscQueue;
 
 import java.util.Set;
+import java.util.function.Consumer;
 
 /**
- * Handles the execution of moves requested by player
+ * Handles the execution of moves requested by player.
+ * Each game engine owns its own invoker, so several games can run side by side.
+ * <p>
+ * Commands can be added from one input thread (e.g. the JavaFX thread or a network thread) while the game is
+ * ticked on another. They are handed over through a lock-free queue and take effect at the next update.
  */
 public class MovementInvoker {
 
-    private static MovementInvoker instance;
+    private static final int PENDING_CAPACITY = 64;
+
+    // commands added by the input thread that the simulation thread has not picked up yet
+    private final SpscQueue<MoveCommand> pendingCommands;
     private MoveCommand currentCommand;
     private MoveCommand queuedCommand;
+    // told about every command when it is taken over from the queue, e.g. to record a replay
+    private Consumer<MoveCommand> commandObserver;
 
-    private MovementInvoker() {
+    public MovementInvoker() {
+        this.pendingCommands = new SpscQueue<>(PENDING_CAPACITY);
     }
 
     /**
-     * Retrieves the singleton instance of MovementInvoker
+     * Sets the observer told about every command at the update that takes it over, on the simulation thread
      *
-     * @return MovementInvoker object
+     * @param commandObserver observer of taken over commands, or null for none
      */
-    public static MovementInvoker getInstance() {
-        if (instance == null) {
-            instance = new MovementInvoker();
-        }
-        return instance;
+    public void setCommandObserver(Consumer<MoveCommand> commandObserver) {
+        this.commandObserver = commandObserver;
+    }
+
+    /**
+     * Handles a new command by player. The command is picked up at the next update.
+     * Must only be called from a single input thread.
+     *
+     * @param command new command from player
+     * @return true, if the command was accepted; false if too many commands are waiting to be picked up
+     */
+    public boolean addCommand(MoveCommand command) {
+        return pendingCommands.offer(command);
     }
 
     /**
-     * Handles a new command by player.
+     * Takes over a command added by player.
      * If there is no command currently set, it will be set to the current command immediately, otherwise,
      * it will be queued. Only the latest command given by the player will be queued.
      *
      * @param command new command from player
      */
-    public void addCommand(MoveCommand command) {
+    private void acceptCommand(MoveCommand command) {
         if (currentCommand == null) {
             currentCommand = command;
             queuedCommand = null;
@@ -53,6 +73,14 @@ public class MovementInvoker {
      * @param possibleDirections possible directions of Pac-Man
      */
     public void update(Set<Direction> possibleDirections) {
+        MoveCommand command;
+        while ((command = pendingCommands.poll()) != null) {
+            if (commandObserver != null) {
+                commandObserver.accept(command);
+            }
+            acceptCommand(command);
+        }
+
         if (queuedCommand != null && possibleDirections.contains(queuedCommand.getDirection())) {
             queuedCommand.execute();
             // reset
@@ -64,9 +92,38 @@ public class MovementInvoker {
     }
 
     /**
-     * Resets the commands stored from the player
+     * @return command being executed, or null if there is none
+     */
+    public MoveCommand getCurrentCommand() {
+        return currentCommand;
+    }
+
+    /**
+     * @return command waiting to be executed once its direction is possible, or null if there is none
+     */
+    public MoveCommand getQueuedCommand() {
+        return queuedCommand;
+    }
+
+    /**
+     * Replaces the stored commands, e.g. when a game is restored. Commands not picked up yet are discarded.
+     *
+     * @param currentCommand command being executed, or null
+     * @param queuedCommand  command waiting to be executed, or null
+     */
+    public void restore(MoveCommand currentCommand, MoveCommand queuedCommand) {
+        reset();
+        this.currentCommand = currentCommand;
+        this.queuedCommand = queuedCommand;
+    }
+
+    /**
+     * Resets the commands stored from the player, including those not picked up yet
      */
     public void reset() {
+        while (pendingCommands.poll() != null) {
+            // discard
+        }
         this.queuedCommand = null;
         this.currentCommand = null;
     }
@@ -1,12 +1,14 @@
 package pacman.model.entity.dynamic.player;
 
-import javafx.scene.image.Image;
 import pacman.model.entity.Renderable;
+import pacman.model.entity.Sprite;
 import pacman.model.entity.dynamic.physics.*;
 import pacman.model.entity.dynamic.player.observer.PlayerPositionObserver;
 import pacman.model.entity.dynamic.player.observer.PlayerPositionSubject;
 import pacman.model.entity.staticentity.collectable.Collectable;
 import pacman.model.level.Level;
+import pacman.model.snapshot.KinematicSnapshot;
+import pacman.model.snapshot.PlayerSnapshot;
 
 import java.util.HashSet;
 import java.util.Map;
@@ -16,39 +18,41 @@ public class Pacman implements Controllable, PlayerPositionSubject {
 
     public static final int PACMAN_IMAGE_SWAP_TICK_COUNT = 8;
     private final Layer layer = Layer.FOREGROUND;
-    private final Map<PacmanVisual, Image> images;
+    private final Map<PacmanVisual, Sprite> sprites;
     private final BoundingBox boundingBox;
     private final Vector2D startingPosition;
     private final Set<PlayerPositionObserver> observers;
     private final MovementInvoker movementInvoker;
     private KinematicState kinematicState;
-    private Image currentImage;
+    private Sprite currentSprite;
     private Set<Direction> possibleDirections;
     private boolean isClosedImage;
+    private long version;
 
     public Pacman(
-            Image currentImage,
-            Map<PacmanVisual, Image> images,
+            Sprite currentSprite,
+            Map<PacmanVisual, Sprite> sprites,
             BoundingBox boundingBox,
-            KinematicState kinematicState
+            KinematicState kinematicState,
+            MovementInvoker movementInvoker
     ) {
-        this.currentImage = currentImage;
-        this.images = images;
+        this.currentSprite = currentSprite;
+        this.sprites = sprites;
         this.boundingBox = boundingBox;
         this.kinematicState = kinematicState;
         this.startingPosition = kinematicState.getPosition();
         this.observers = new HashSet<>();
         this.possibleDirections = new HashSet<>();
         this.isClosedImage = false;
-        this.movementInvoker = MovementInvoker.getInstance();
+        this.movementInvoker = movementInvoker;
     }
 
     @Override
-    public Image getImage() {
+    public Sprite getSprite() {
         if (isClosedImage) {
-            return images.get(PacmanVisual.CLOSED);
+            return sprites.get(PacmanVisual.CLOSED);
         } else {
-            return currentImage;
+            return currentSprite;
         }
     }
 
@@ -59,6 +63,9 @@ public class Pacman implements Controllable, PlayerPositionSubject {
 
     @Override
     public void setPosition(Vector2D position) {
+        if (position.getX() != kinematicState.getX() || position.getY() != kinematicState.getY()) {
+            this.version++;
+        }
         this.kinematicState.setPosition(position);
     }
 
@@ -69,8 +76,13 @@ public class Pacman implements Controllable, PlayerPositionSubject {
 
     public void update() {
         movementInvoker.update(this.possibleDirections);
+        double x = kinematicState.getX();
+        double y = kinematicState.getY();
         kinematicState.update();
-        this.boundingBox.setTopLeft(this.kinematicState.getPosition());
+        this.boundingBox.setTopLeft(this.kinematicState.getX(), this.kinematicState.getY());
+        if (kinematicState.getX() != x || kinematicState.getY() != y) {
+            this.version++;
+        }
         notifyObservers();
     }
 
@@ -82,25 +94,32 @@ public class Pacman implements Controllable, PlayerPositionSubject {
     @Override
     public void up() {
         this.kinematicState.up();
-        this.currentImage = images.get(PacmanVisual.UP);
+        setCurrentSprite(sprites.get(PacmanVisual.UP));
     }
 
     @Override
     public void down() {
         this.kinematicState.down();
-        this.currentImage = images.get(PacmanVisual.DOWN);
+        setCurrentSprite(sprites.get(PacmanVisual.DOWN));
     }
 
     @Override
     public void left() {
         this.kinematicState.left();
-        this.currentImage = images.get(PacmanVisual.LEFT);
+        setCurrentSprite(sprites.get(PacmanVisual.LEFT));
     }
 
     @Override
     public void right() {
         this.kinematicState.right();
-        this.currentImage = images.get(PacmanVisual.RIGHT);
+        setCurrentSprite(sprites.get(PacmanVisual.RIGHT));
+    }
+
+    private void setCurrentSprite(Sprite sprite) {
+        if (this.currentSprite != sprite) {
+            this.currentSprite = sprite;
+            this.version++;
+        }
     }
 
     @Override
@@ -134,6 +153,30 @@ public class Pacman implements Controllable, PlayerPositionSubject {
         left();
         movementInvoker.reset();
         this.isClosedImage = false;
+        this.version++;
+    }
+
+    /**
+     * Captures the state of Pac-Man. Queued moves belong to the movement invoker and are not included.
+     *
+     * @return snapshot of Pac-Man
+     */
+    public PlayerSnapshot snapshot() {
+        return new PlayerSnapshot(KinematicSnapshot.of(kinematicState), currentSprite, isClosedImage);
+    }
+
+    /**
+     * Puts Pac-Man back into a captured state
+     *
+     * @param snapshot state to restore
+     */
+    public void restore(PlayerSnapshot snapshot) {
+        this.kinematicState = snapshot.kinematics().toKinematicState();
+        this.boundingBox.setTopLeft(this.kinematicState.getX(), this.kinematicState.getY());
+        this.currentSprite = snapshot.sprite();
+        this.isClosedImage = snapshot.closedImage();
+        this.version++;
+        notifyObservers();
     }
 
     @Override
@@ -186,5 +229,11 @@ public class Pacman implements Controllable, PlayerPositionSubject {
     @Override
     public void switchImage() {
         this.isClosedImage = !this.isClosedImage;
+        this.version++;
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
     }
 }
@@ -1,4 +1,4 @@
-package pacman.view.keyboard.command;
+package pacman.model.entity.dynamic.player.command;
 
 import pacman.model.engine.GameEngine;
 import pacman.model.entity.dynamic.physics.Direction;
@@ -1,6 +1,6 @@
 package pacman.model.entity.staticentity.collectable;
 
-import javafx.scene.image.Image;
+import pacman.model.entity.Sprite;
 import pacman.model.entity.dynamic.physics.BoundingBox;
 import pacman.model.entity.staticentity.StaticEntityImpl;
 
@@ -12,8 +12,8 @@ public class Pellet extends StaticEntityImpl implements Collectable {
     private final int points;
     private boolean isCollectable;
 
-    public Pellet(BoundingBox boundingBox, Layer layer, Image image, int points) {
-        super(boundingBox, layer, image);
+    public Pellet(BoundingBox boundingBox, Layer layer, Sprite sprite, int points) {
+        super(boundingBox, layer, sprite);
         this.points = points;
         this.isCollectable = true;
     }
@@ -1,13 +1,13 @@
 package pacman.model.factories;
 
-import javafx.scene.image.Image;
 import pacman.ConfigurationParseException;
-import pacman.util.ResourceUtils;
 import pacman.model.entity.Renderable;
+import pacman.model.entity.Sprite;
 import pacman.model.entity.dynamic.ghost.GhostImpl;
 import pacman.model.entity.dynamic.ghost.GhostMode;
 import pacman.model.entity.dynamic.physics.*;
 import pacman.model.strategy.*;
+import pacman.util.SplitMix64;
 
 import java.util.Arrays;
 import java.util.List;
@@ -21,11 +21,7 @@ public class GhostFactory implements RenderableFactory {
     private static final int TOP_Y_POSITION_OF_MAP = 16 * 3;
     private static final int BOTTOM_Y_POSITION_OF_MAP = 16 * 34;
 
-    private static final Image BLINKY_IMAGE = new Image(ResourceUtils.toExternalForm("maze/ghosts/blinky.png"));
-    private static final Image INKY_IMAGE = new Image(ResourceUtils.toExternalForm("maze/ghosts/inky.png"));
-    private static final Image CLYDE_IMAGE = new Image(ResourceUtils.toExternalForm("maze/ghosts/clyde.png"));
-    private static final Image PINKY_IMAGE = new Image(ResourceUtils.toExternalForm("maze/ghosts/pinky.png"));
-    private static final Image GHOST_IMAGE = BLINKY_IMAGE;
+    private static final Sprite GHOST_SPRITE = Sprite.BLINKY;
     List<Vector2D> targetCorners = Arrays.asList(
             new Vector2D(0, TOP_Y_POSITION_OF_MAP),
             new Vector2D(RIGHT_X_POSITION_OF_MAP, TOP_Y_POSITION_OF_MAP),
@@ -33,8 +29,17 @@ public class GhostFactory implements RenderableFactory {
             new Vector2D(RIGHT_X_POSITION_OF_MAP, BOTTOM_Y_POSITION_OF_MAP)
     );
 
+    private final SplitMix64 random;
+
+    /**
+     * @param random random number generator of the game, used by the created ghosts
+     */
+    public GhostFactory(SplitMix64 random) {
+        this.random = random;
+    }
+
     private int getRandomNumber(int min, int max) {
-        return (int) ((Math.random() * (max - min)) + min);
+        return random.nextInt(min, max);
     }
 
     @Override
@@ -46,8 +51,8 @@ public class GhostFactory implements RenderableFactory {
 
             BoundingBox boundingBox = new BoundingBoxImpl(
                     position,
-                    GHOST_IMAGE.getHeight(),
-                    GHOST_IMAGE.getWidth()
+                    GHOST_SPRITE.getHeight(),
+                    GHOST_SPRITE.getWidth()
             );
 
             KinematicState kinematicState = new KinematicStateImpl.KinematicStateBuilder()
@@ -55,7 +60,7 @@ public class GhostFactory implements RenderableFactory {
                     .build();
 
             return new GhostImpl(
-                    GHOST_IMAGE,
+                    GHOST_SPRITE,
                     boundingBox,
                     kinematicState,
                     GhostMode.SCATTER,
@@ -72,7 +77,7 @@ public class GhostFactory implements RenderableFactory {
 
     /**
      * Creates a renderable Ghost object based on the provided position and ghost type.
-     * It initializes the ghost's image, chase strategy, bounding box, and kinematic state.
+     * It initializes the ghost's sprite, chase strategy, bounding box, and kinematic state.
      *
      * @param position  The initial position of the ghost.
      * @param ghostType The type of the ghost (Blinky, Pinky, Inky, Clyde).
@@ -81,17 +86,17 @@ public class GhostFactory implements RenderableFactory {
      */
     public Renderable createRenderable(Vector2D position, char ghostType) {
         try {
-            Image ghostImage = getGhostImage(ghostType);  // Retrieve the image for the ghost type.
+            Sprite ghostSprite = getGhostSprite(ghostType);  // Retrieve the sprite for the ghost type.
             GhostChaseStrategy chaseStrategy = getChaseStrategy(ghostType);  // Retrieve the chase strategy.
 
             // Adjust the initial position.
             position = position.add(new Vector2D(4, -4));
 
-            // Create a bounding box based on the position and ghost image dimensions.
+            // Create a bounding box based on the position and ghost sprite dimensions.
             BoundingBox boundingBox = new BoundingBoxImpl(
                     position,
-                    ghostImage.getHeight(),
-                    ghostImage.getWidth()
+                    ghostSprite.getHeight(),
+                    ghostSprite.getWidth()
             );
 
             // Build the kinematic state for the ghost with its position and speed.
@@ -102,13 +107,14 @@ public class GhostFactory implements RenderableFactory {
 
             // Return the fully initialized Ghost object.
             return new GhostImpl(
-                    ghostImage,
+                    ghostSprite,
                     boundingBox,
                     kinematicState,
                     GhostMode.SCATTER,  // Initialize the ghost in SCATTER mode.
                     getScatterTarget(ghostType),  // Retrieve the scatter target for the ghost type.
                     ghostType,
-                    chaseStrategy
+                    chaseStrategy,
+                    random
             );
         } catch (Exception e) {
             // Throw a custom exception if there is an error in the configuration.
@@ -119,22 +125,22 @@ public class GhostFactory implements RenderableFactory {
     }
 
     /**
-     * Retrieves the image corresponding to the specified ghost type.
+     * Retrieves the sprite corresponding to the specified ghost type.
      *
      * @param ghostType The type of the ghost (Blinky, Pinky, Inky, Clyde).
-     * @return The image associated with the ghost type.
+     * @return The sprite associated with the ghost type.
      * @throws IllegalArgumentException If the ghost type is invalid.
      */
-    private Image getGhostImage(char ghostType) {
+    private Sprite getGhostSprite(char ghostType) {
         switch (ghostType) {
             case RenderableType.BLINKY:
-                return BLINKY_IMAGE;
+                return Sprite.BLINKY;
             case RenderableType.PINKY:
-                return PINKY_IMAGE;
+                return Sprite.PINKY;
             case RenderableType.INKY:
-                return INKY_IMAGE;
+                return Sprite.INKY;
             case RenderableType.CLYDE:
-                return CLYDE_IMAGE;
+                return Sprite.CLYDE;
             default:
                 throw new IllegalArgumentException("Invalid ghost type: " + ghostType);
         }
@@ -1,9 +1,8 @@
 package pacman.model.factories;
 
-import javafx.scene.image.Image;
 import pacman.ConfigurationParseException;
-import pacman.util.ResourceUtils;
 import pacman.model.entity.Renderable;
+import pacman.model.entity.Sprite;
 import pacman.model.entity.dynamic.physics.BoundingBox;
 import pacman.model.entity.dynamic.physics.BoundingBoxImpl;
 import pacman.model.entity.dynamic.physics.Vector2D;
@@ -13,7 +12,7 @@ import pacman.model.entity.staticentity.collectable.Pellet;
  * Concrete renderable factory for Pellet objects
  */
 public class PelletFactory implements RenderableFactory {
-    private static final Image PELLET_IMAGE = new Image(ResourceUtils.toExternalForm("maze/pellet.png"));
+    private static final Sprite PELLET_SPRITE = Sprite.PELLET;
     private static final int NUM_POINTS = 100;
     private final Renderable.Layer layer = Renderable.Layer.BACKGROUND;
 
@@ -38,14 +37,14 @@ public class PelletFactory implements RenderableFactory {
 
             BoundingBox boundingBox = new BoundingBoxImpl(
                     position,
-                    PELLET_IMAGE.getHeight(),
-                    PELLET_IMAGE.getWidth()
+                    PELLET_SPRITE.getHeight(),
+                    PELLET_SPRITE.getWidth()
             );
 
             return new Pellet(
                     boundingBox,
                     layer,
-                    PELLET_IMAGE,
+                    PELLET_SPRITE,
                     NUM_POINTS
             );
 
@@ -83,7 +82,7 @@ public class PelletFactory implements RenderableFactory {
             );
 
             // Return the pellet as a renderable object
-            return new Pellet(boundingBox, layer, PELLET_IMAGE, points);
+            return new Pellet(boundingBox, layer, PELLET_SPRITE, points);
 
         } catch (Exception e) {
             throw new ConfigurationParseException(
@@ -100,8 +99,8 @@ public class PelletFactory implements RenderableFactory {
      * @return An array containing the width and height of the pellet.
      */
     private double[] getSizeByType(char pelletType) {
-        double width = PELLET_IMAGE.getWidth();
-        double height = PELLET_IMAGE.getHeight();
+        double width = PELLET_SPRITE.getWidth();
+        double height = PELLET_SPRITE.getHeight();
 
         // If the pellet is a power pellet, scale its size by the defined factor
         if (pelletType == RenderableType.POWER_PELLET) {
@@ -3,6 +3,8 @@ package pacman.model.level;
 import pacman.model.entity.Renderable;
 import pacman.model.entity.staticentity.collectable.Collectable;
 import pacman.model.level.observer.LevelStateSubject;
+import pacman.model.level.observer.RenderableObserver;
+import pacman.model.snapshot.LevelSnapshot;
 
 import java.util.List;
 
@@ -17,6 +19,21 @@ public interface Level extends LevelStateSubject {
      */
     List<Renderable> getRenderables();
 
+    /**
+     * Adds an observer of the level's renderables.
+     * The observer is immediately told about every renderable currently in the level.
+     *
+     * @param observer observer to add
+     */
+    void registerRenderableObserver(RenderableObserver observer);
+
+    /**
+     * Removes an observer of the level's renderables
+     *
+     * @param observer observer to remove
+     */
+    void removeRenderableObserver(RenderableObserver observer);
+
     /**
      * Instruct the level to progress forward in time by one increment.
      */
@@ -103,5 +120,19 @@ public interface Level extends LevelStateSubject {
 
     void setConsecutiveGhostsEaten(int consecutiveGhostsEaten);
 
-    
+    /**
+     * Captures the state of the level and its entities
+     *
+     * @return snapshot of the level
+     */
+    LevelSnapshot snapshot();
+
+    /**
+     * Puts the level and its entities back into a captured state and notifies observers of the changes.
+     * The snapshot must come from a level of a game created from the same config.
+     *
+     * @param snapshot state to restore
+     * @throws IllegalArgumentException if the snapshot does not match the level's maze
+     */
+    void restore(LevelSnapshot snapshot);
 }
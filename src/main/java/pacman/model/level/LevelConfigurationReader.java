@@ -1,6 +1,7 @@
 package pacman.model.level;
 
 import org.json.simple.JSONObject;
+import pacman.ConfigurationParseException;
 import pacman.model.entity.dynamic.ghost.GhostMode;
 
 import java.util.HashMap;
@@ -11,6 +12,8 @@ import java.util.Map;
  */
 public class LevelConfigurationReader {
 
+    public static final String GHOST_NAVIGATION_EUCLIDEAN = "euclidean";
+    public static final String GHOST_NAVIGATION_PATH = "path";
     private final JSONObject levelConfiguration;
 
     public LevelConfigurationReader(JSONObject levelConfiguration) {
@@ -61,4 +64,21 @@ public class LevelConfigurationReader {
 
         return ghostSpeeds;
     }
+
+    /**
+     * Retrieves how ghosts measure the distance to their target: "euclidean" (straight line, the default)
+     * or "path" (walking distance through the maze)
+     *
+     * @return the ghost navigation mode for the level
+     */
+    public String getGhostNavigation() {
+        Object ghostNavigation = levelConfiguration.get("ghostNavigation");
+        if (ghostNavigation == null) {
+            return GHOST_NAVIGATION_EUCLIDEAN;
+        }
+        if (!GHOST_NAVIGATION_EUCLIDEAN.equals(ghostNavigation) && !GHOST_NAVIGATION_PATH.equals(ghostNavigation)) {
+            throw new ConfigurationParseException("Unknown ghostNavigation: " + ghostNavigation);
+        }
+        return (String) ghostNavigation;
+    }
 }
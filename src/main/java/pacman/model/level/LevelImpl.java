@@ -14,16 +14,24 @@ import pacman.model.entity.dynamic.player.Pacman;
 import pacman.model.entity.staticentity.StaticEntity;
 import pacman.model.entity.staticentity.collectable.Collectable;
 import pacman.model.level.observer.LevelStateObserver;
+import pacman.model.level.observer.RenderableObserver;
+import pacman.model.snapshot.GhostSnapshot;
+import pacman.model.snapshot.LevelSnapshot;
 import pacman.model.state.FrightenedState;
 import pacman.model.state.NormalState;
 import pacman.model.maze.Maze;
+import pacman.model.maze.MazeCreator;
+import pacman.model.maze.StaticEntityGrid;
+import pacman.model.strategy.EuclideanNavigationStrategy;
+import pacman.model.strategy.GhostNavigationStrategy;
 import pacman.model.strategy.InkyChaseStrategy;
+import pacman.model.strategy.PathNavigationStrategy;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * Concrete implement of Pac-Man level
@@ -33,17 +41,26 @@ public class LevelImpl implements Level {
     private static final int START_LEVEL_TIME = 100;
     private final Maze maze;
     private final List<LevelStateObserver> observers;
+    private final List<RenderableObserver> renderableObservers;
     private List<Renderable> renderables;
     private Pacman player;
-    private List<Ghost> ghosts;
+    private Ghost[] ghosts;
     private int tickCount;
     private Map<GhostMode, Integer> modeLengths;
     private int numLives;
     private int points;
     private GameState gameState;
-    private List<Renderable> collectables;
     private GhostMode currentGhostMode;
 
+    // Renderables partitioned once per level so the tick never has to filter the full renderable list
+    private DynamicEntity[] dynamicEntities;
+    private int numDynamicEntities;
+    // Walls and collectables; collected entries are deactivated in the grid
+    private StaticEntityGrid staticEntityGrid;
+    // grid id of each collectable, in maze pellet order
+    private int[] collectableGridIds;
+    private int numCollectables;
+
 
 
 
@@ -63,6 +80,7 @@ public class LevelImpl implements Level {
         this.maze = maze;
         this.tickCount = 0;
         this.observers = new ArrayList<>();
+        this.renderableObservers = new ArrayList<>();
         this.modeLengths = new HashMap<>();
         this.gameState = GameState.READY;
         this.currentGhostMode = GhostMode.SCATTER;
@@ -72,8 +90,8 @@ public class LevelImpl implements Level {
     }
 
     private void initLevel(LevelConfigurationReader levelConfigurationReader) {
-        // Fetch all renderables for the level
-        this.renderables = maze.getRenderables();
+        // Fetch all renderables for the level; copied since the game end removes entities from the level only
+        this.renderables = new ArrayList<>(maze.getRenderables());
 
         // Set up player
         if (!(maze.getControllable() instanceof Controllable)) {
@@ -86,8 +104,12 @@ public class LevelImpl implements Level {
         // Set up ghosts
         this.ghosts = maze.getGhosts().stream()
                 .map(element -> (Ghost) element)
-                .collect(Collectors.toList());
+                .toArray(Ghost[]::new);
         Map<GhostMode, Double> ghostSpeeds = levelConfigurationReader.getGhostSpeeds();
+        GhostNavigationStrategy navigationStrategy =
+                LevelConfigurationReader.GHOST_NAVIGATION_PATH.equals(levelConfigurationReader.getGhostNavigation())
+                        ? new PathNavigationStrategy(maze)
+                        : new EuclideanNavigationStrategy();
 
 
 
@@ -105,6 +127,9 @@ public class LevelImpl implements Level {
             // Set the speeds for each Ghost based on the predefined ghostSpeeds map
             ghost.setSpeeds(ghostSpeeds);
 
+            // Set how each Ghost measures the distance to its target
+            ghost.setNavigationStrategy(navigationStrategy);
+
             // Set the initial mode for each Ghost (e.g., chase or scatter mode)
             ghost.setGhostMode(this.currentGhostMode);
 
@@ -130,13 +155,40 @@ public class LevelImpl implements Level {
 
 
         this.modeLengths = levelConfigurationReader.getGhostModeLengths();
-        // Set up collectables
-        this.collectables = new ArrayList<>(maze.getPellets());
-
 
         //Set up power pellets
         this.powerPellets = new ArrayList<>(maze.getPowerPellets());
 
+        partitionRenderables();
+    }
+
+    private void partitionRenderables() {
+        this.dynamicEntities = new DynamicEntity[renderables.size()];
+        this.numDynamicEntities = 0;
+        this.numCollectables = 0;
+        this.collectableGridIds = new int[maze.getPellets().size()];
+        List<StaticEntity> staticEntities = new ArrayList<>();
+        int numPellets = 0;
+
+        for (Renderable renderable : renderables) {
+            if (renderable instanceof DynamicEntity dynamicEntity) {
+                dynamicEntities[numDynamicEntities++] = dynamicEntity;
+            } else if (renderable instanceof StaticEntity staticEntity) {
+                if (renderable instanceof Collectable) {
+                    collectableGridIds[numPellets++] = staticEntities.size();
+                }
+                staticEntities.add(staticEntity);
+            }
+        }
+
+        this.staticEntityGrid = new StaticEntityGrid(staticEntities, MazeCreator.RESIZING_FACTOR);
+        for (int i = 0; i < numPellets; i++) {
+            if (((Collectable) staticEntities.get(collectableGridIds[i])).isCollectable()) {
+                numCollectables++;
+            } else {
+                staticEntityGrid.setActive(collectableGridIds[i], false);
+            }
+        }
     }
 
     @Override
@@ -144,14 +196,32 @@ public class LevelImpl implements Level {
         return this.renderables;
     }
 
-    private List<DynamicEntity> getDynamicEntities() {
-        return renderables.stream().filter(e -> e instanceof DynamicEntity).map(e -> (DynamicEntity) e).collect(
-                Collectors.toList());
+    @Override
+    public void registerRenderableObserver(RenderableObserver observer) {
+        this.renderableObservers.add(observer);
+        for (Renderable renderable : renderables) {
+            observer.renderableAdded(renderable);
+        }
+    }
+
+    @Override
+    public void removeRenderableObserver(RenderableObserver observer) {
+        this.renderableObservers.remove(observer);
+    }
+
+    private void notifyRenderableChanged(Renderable renderable) {
+        for (RenderableObserver observer : renderableObservers) {
+            observer.renderableChanged(renderable);
+        }
     }
 
-    private List<StaticEntity> getStaticEntities() {
-        return renderables.stream().filter(e -> e instanceof StaticEntity).map(e -> (StaticEntity) e).collect(
-                Collectors.toList());
+    private void notifyDynamicEntitiesChanged() {
+        if (renderableObservers.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < numDynamicEntities; ++i) {
+            notifyRenderableChanged(dynamicEntities[i]);
+        }
     }
 
     @Override
@@ -210,19 +280,18 @@ public class LevelImpl implements Level {
             }
 
             // Update the dynamic entities
-            List<DynamicEntity> dynamicEntities = getDynamicEntities();
-
-            for (DynamicEntity dynamicEntity : dynamicEntities) {
+            for (int i = 0; i < numDynamicEntities; ++i) {
+                DynamicEntity dynamicEntity = dynamicEntities[i];
                 maze.updatePossibleDirections(dynamicEntity);
                 dynamicEntity.update();
             }
 
-            for (int i = 0; i < dynamicEntities.size(); ++i) {
-                DynamicEntity dynamicEntityA = dynamicEntities.get(i);
+            for (int i = 0; i < numDynamicEntities; ++i) {
+                DynamicEntity dynamicEntityA = dynamicEntities[i];
 
                 // handle collisions between dynamic entities
-                for (int j = i + 1; j < dynamicEntities.size(); ++j) {
-                    DynamicEntity dynamicEntityB = dynamicEntities.get(j);
+                for (int j = i + 1; j < numDynamicEntities; ++j) {
+                    DynamicEntity dynamicEntityB = dynamicEntities[j];
 
                     if (dynamicEntityA.collidesWith(dynamicEntityB) ||
                             dynamicEntityB.collidesWith(dynamicEntityA)) {
@@ -231,14 +300,23 @@ public class LevelImpl implements Level {
                     }
                 }
 
-                // handle collisions between dynamic entities and static entities
-                for (StaticEntity staticEntity : getStaticEntities()) {
+                // handle collisions between dynamic entities and the static entities in the tiles it overlaps
+                int numCandidates = staticEntityGrid.query(dynamicEntityA.getBoundingBox());
+                for (int k = 0; k < numCandidates; ++k) {
+                    StaticEntity staticEntity = staticEntityGrid.getCandidate(k);
                     if (dynamicEntityA.collidesWith(staticEntity)) {
                         dynamicEntityA.collideWith(this, staticEntity);
                         PhysicsEngine.resolveCollision(dynamicEntityA, staticEntity);
+
+                        if (staticEntity instanceof Collectable collectable && !collectable.isCollectable()) {
+                            staticEntityGrid.removeCandidate(k);
+                            notifyRenderableChanged(staticEntity);
+                        }
                     }
                 }
             }
+
+            notifyDynamicEntitiesChanged();
         }
 
 
@@ -277,7 +355,7 @@ public class LevelImpl implements Level {
 
     @Override
     public boolean isCollectable(Renderable renderable) {
-        return maze.getPellets().contains(renderable) && ((Collectable) renderable).isCollectable();
+        return renderable instanceof Collectable collectable && collectable.isCollectable();
     }
 
     @Override
@@ -299,16 +377,16 @@ public class LevelImpl implements Level {
         }
 
 
-
-        this.collectables.remove(collectable);
+        this.numCollectables--;
     }
 
     @Override
     public void handleLoseLife() {
         if (gameState == GameState.IN_PROGRESS) {
-            for (DynamicEntity dynamicEntity : getDynamicEntities()) {
-                dynamicEntity.reset();
+            for (int i = 0; i < numDynamicEntities; ++i) {
+                dynamicEntities[i].reset();
             }
+            notifyDynamicEntitiesChanged();
             setNumLives(numLives - 1);
             consecutiveGhostsEaten = 0;
             setGameState(GameState.READY);
@@ -338,7 +416,7 @@ public class LevelImpl implements Level {
 
     @Override
     public boolean isLevelFinished() {
-        return collectables.isEmpty();
+        return numCollectables == 0;
     }
 
     @Override
@@ -398,9 +476,74 @@ public class LevelImpl implements Level {
 
     @Override
     public void handleGameEnd() {
-        this.renderables.removeAll(getDynamicEntities());
+        for (int i = 0; i < numDynamicEntities; ++i) {
+            this.renderables.remove(dynamicEntities[i]);
+            for (RenderableObserver observer : renderableObservers) {
+                observer.renderableRemoved(dynamicEntities[i]);
+            }
+            dynamicEntities[i] = null;
+        }
+        this.numDynamicEntities = 0;
+    }
+
+
+    @Override
+    public LevelSnapshot snapshot() {
+        List<Renderable> pellets = maze.getPellets();
+        BitSet collected = new BitSet(pellets.size());
+        for (int i = 0; i < pellets.size(); i++) {
+            if (!((Collectable) pellets.get(i)).isCollectable()) {
+                collected.set(i);
+            }
+        }
+
+        List<GhostSnapshot> ghostSnapshots = new ArrayList<>(ghosts.length);
+        for (Ghost ghost : ghosts) {
+            ghostSnapshots.add(ghost.snapshot());
+        }
+
+        return new LevelSnapshot(gameState, tickCount, currentGhostMode, numLives, points, consecutiveGhostsEaten,
+                collected, player.snapshot(), ghostSnapshots);
     }
 
+    @Override
+    public void restore(LevelSnapshot snapshot) {
+        List<Renderable> pellets = maze.getPellets();
+        if (snapshot.ghosts().size() != ghosts.length || snapshot.collected().length() > pellets.size()) {
+            throw new IllegalArgumentException("Snapshot was taken from a different maze");
+        }
+
+        this.tickCount = snapshot.tickCount();
+        this.currentGhostMode = snapshot.ghostMode();
+        this.points = snapshot.points();
+        this.consecutiveGhostsEaten = snapshot.consecutiveGhostsEaten();
+
+        // only pellets whose state differs are touched, so restoring a recent snapshot is cheap
+        for (int i = 0; i < pellets.size(); i++) {
+            Collectable pellet = (Collectable) pellets.get(i);
+            boolean collected = snapshot.isCollected(i);
+            if (collected == pellet.isCollectable()) {
+                if (collected) {
+                    pellet.collect();
+                    numCollectables--;
+                } else {
+                    pellet.reset();
+                    numCollectables++;
+                }
+                staticEntityGrid.setActive(collectableGridIds[i], !collected);
+                notifyRenderableChanged(pellet);
+            }
+        }
+
+        player.restore(snapshot.player());
+        for (int i = 0; i < ghosts.length; i++) {
+            ghosts[i].restore(snapshot.ghosts().get(i));
+        }
+        notifyDynamicEntitiesChanged();
+
+        setNumLives(snapshot.numLives());
+        setGameState(snapshot.gameState());
+    }
 
     @Override
     public int getConsecutiveGhostsEaten() {
@@ -0,0 +1,33 @@
+package pacman.model.level.observer;
+
+import pacman.model.entity.Renderable;
+
+/***
+ * Observer that is interested in which renderables of a level were added, removed or changed.
+ * <p>
+ * Notifications are sent while the level is being ticked, so observers should only record them and read the
+ * renderables' state once the tick has finished.
+ */
+public interface RenderableObserver {
+
+    /**
+     * Updates observer with a renderable that is now part of the level
+     *
+     * @param renderable the added renderable
+     */
+    void renderableAdded(Renderable renderable);
+
+    /**
+     * Updates observer with a renderable that is no longer part of the level
+     *
+     * @param renderable the removed renderable
+     */
+    void renderableRemoved(Renderable renderable);
+
+    /**
+     * Updates observer with a renderable whose position, sprite or layer may have changed
+     *
+     * @param renderable the changed renderable
+     */
+    void renderableChanged(Renderable renderable);
+}
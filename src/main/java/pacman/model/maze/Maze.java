@@ -15,26 +15,79 @@ import java.util.*;
 public class Maze {
 
     private static final int MAX_CENTER_DISTANCE = 4;
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int ALL_DIRECTIONS = (1 << DIRECTIONS.length) - 1;
+    // one shared, unmodifiable set per direction mask, so navigation never allocates
+    private static final List<Set<Direction>> DIRECTION_SETS = createDirectionSets();
     private final List<Renderable> renderables;
     private final List<Renderable> ghosts;
     private final List<Renderable> pellets;
-    private final Map<String, Boolean> isWall;
     private final List<Renderable> powerPellets;
+    private final int width;
+    private final int height;
+    // map characters of each tile, indexed by y * width + x
+    private final byte[] tiles;
+    private final BitSet walls;
+    // mask of the directions that are not blocked by a wall when leaving the centre of each tile
+    private final byte[] openDirections;
+    // true, if the tables above belong to a MazeTemplate and must not be written
+    private final boolean sharedTables;
+    // path distances over the walls above, created on first use
+    private TileDistances tileDistances;
     private Renderable pacman;
     private int numLives;
 
-    public Maze() {
+    public Maze(int width, int height) {
         this.renderables = new ArrayList<>();
         this.ghosts = new ArrayList<>();
         this.pellets = new ArrayList<>();
-        this.isWall = new HashMap<>();
+        this.width = width;
+        this.height = height;
+        this.tiles = new byte[width * height];
+        this.walls = new BitSet(width * height);
+        this.openDirections = new byte[width * height];
+        Arrays.fill(openDirections, (byte) ALL_DIRECTIONS);
+        this.sharedTables = false;
 
         // create a new arraylist to store all power pellets
         this.powerPellets = new ArrayList<>();
     }
 
-    private static String formatCoordinates(int x, int y) {
-        return String.format("(%d, %d)", x, y);
+    /**
+     * Creates an empty maze that reads the tile, wall and direction tables of the given maze without copying them
+     *
+     * @param tables maze whose tables are no longer modified
+     */
+    Maze(Maze tables) {
+        this.renderables = new ArrayList<>();
+        this.ghosts = new ArrayList<>();
+        this.pellets = new ArrayList<>();
+        this.powerPellets = new ArrayList<>();
+        this.width = tables.width;
+        this.height = tables.height;
+        this.tiles = tables.tiles;
+        this.walls = tables.walls;
+        this.openDirections = tables.openDirections;
+        this.tileDistances = tables.getTileDistances();
+        this.sharedTables = true;
+    }
+
+    private static List<Set<Direction>> createDirectionSets() {
+        List<Set<Direction>> directionSets = new ArrayList<>(ALL_DIRECTIONS + 1);
+        for (int mask = 0; mask <= ALL_DIRECTIONS; mask++) {
+            Set<Direction> directions = EnumSet.noneOf(Direction.class);
+            for (Direction direction : DIRECTIONS) {
+                if ((mask & toMask(direction)) != 0) {
+                    directions.add(direction);
+                }
+            }
+            directionSets.add(Collections.unmodifiableSet(directions));
+        }
+        return List.copyOf(directionSets);
+    }
+
+    private static int toMask(Direction direction) {
+        return 1 << direction.ordinal();
     }
 
     /**
@@ -62,6 +115,10 @@ public class Maze {
      * @param y              grid Y position
      */
     public void addRenderable(Renderable renderable, char renderableType, int x, int y) {
+        if (!sharedTables) {
+            setTile(x, y, renderableType);
+        }
+
         if (renderable != null) {
             if (renderableType == RenderableType.PACMAN) {
                 this.pacman = renderable;
@@ -80,14 +137,34 @@ public class Maze {
 
                 //add power pellets to the new list
                 this.powerPellets.add(renderable);
-            } else {
-                this.isWall.put(formatCoordinates(x, y), true);
+            } else if (!sharedTables && isInBounds(x, y)) {
+                addWall(x, y);
             }
 
             this.renderables.add(renderable);
         }
     }
 
+    void setTile(int x, int y, char renderableType) {
+        if (isInBounds(x, y)) {
+            this.tiles[getTileIndex(x, y)] = (byte) renderableType;
+        }
+    }
+
+    void addWall(int x, int y) {
+        this.walls.set(getTileIndex(x, y));
+        this.tileDistances = null;
+
+        // the wall blocks each neighbouring tile in the direction pointing back at it
+        for (Direction direction : DIRECTIONS) {
+            int neighbourX = x - direction.getXOffset();
+            int neighbourY = y - direction.getYOffset();
+            if (isInBounds(neighbourX, neighbourY)) {
+                this.openDirections[getTileIndex(neighbourX, neighbourY)] &= (byte) ~toMask(direction);
+            }
+        }
+    }
+
     public List<Renderable> getRenderables() {
         return renderables;
     }
@@ -104,47 +181,137 @@ public class Maze {
         return pellets;
     }
 
+    /**
+     * @return number of tile columns in the maze
+     */
+    public int getWidth() {
+        return width;
+    }
 
+    /**
+     * @return number of tile rows in the maze
+     */
+    public int getHeight() {
+        return height;
+    }
 
+    /**
+     * Checks if the given grid position lies within the maze
+     *
+     * @param x grid X position
+     * @param y grid Y position
+     * @return true, if the position is inside the maze
+     */
+    public boolean isInBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
 
-    private int getCenterOfTile(int index) {
-        return index * MazeCreator.RESIZING_FACTOR + MazeCreator.RESIZING_FACTOR / 2;
+    /**
+     * Gets the index of a grid position in row-major order (y * width + x)
+     *
+     * @param x grid X position
+     * @param y grid Y position
+     * @return index of the tile
+     */
+    public int getTileIndex(int x, int y) {
+        return y * width + x;
     }
 
     /**
-     * Updates the possible directions of the dynamic entity based on the maze configuration
+     * Gets the map character the tile was created from (see {@link RenderableType})
+     *
+     * @param x grid X position
+     * @param y grid Y position
+     * @return map character of the tile, or 0 if the position is outside the maze
      */
-    public void updatePossibleDirections(DynamicEntity dynamicEntity) {
-        int xTile = (int) Math.floor(dynamicEntity.getCenter().getX() / MazeCreator.RESIZING_FACTOR);
-        int yTile = (int) Math.floor(dynamicEntity.getCenter().getY() / MazeCreator.RESIZING_FACTOR);
+    public char getTile(int x, int y) {
+        return isInBounds(x, y) ? (char) tiles[getTileIndex(x, y)] : 0;
+    }
 
-        Set<Direction> possibleDirections = new HashSet<>();
+    /**
+     * Checks if there is a wall at the given grid position. Positions outside the maze are not walls.
+     *
+     * @param x grid X position
+     * @param y grid Y position
+     * @return true, if the tile is a wall
+     */
+    public boolean isWall(int x, int y) {
+        return isInBounds(x, y) && walls.get(getTileIndex(x, y));
+    }
 
-        if (Math.abs(getCenterOfTile(xTile) - dynamicEntity.getCenter().getX()) < MAX_CENTER_DISTANCE &&
-                Math.abs(getCenterOfTile(yTile) - dynamicEntity.getCenter().getY()) < MAX_CENTER_DISTANCE) {
+    /**
+     * Checks if there is a wall next to the given grid position in the given direction
+     *
+     * @param x         grid X position
+     * @param y         grid Y position
+     * @param direction direction of the neighbouring tile
+     * @return true, if the neighbouring tile is a wall
+     */
+    public boolean isWall(int x, int y, Direction direction) {
+        return isWall(x + direction.getXOffset(), y + direction.getYOffset());
+    }
 
-            String aboveCoordinates = formatCoordinates(xTile, yTile - 1);
-            if (isWall.get(aboveCoordinates) == null) {
-                possibleDirections.add(Direction.UP);
-            }
 
-            String belowCoordinates = formatCoordinates(xTile, yTile + 1);
-            if (isWall.get(belowCoordinates) == null) {
-                possibleDirections.add(Direction.DOWN);
-            }
 
-            String leftCoordinates = formatCoordinates(xTile - 1, yTile);
-            if (isWall.get(leftCoordinates) == null) {
-                possibleDirections.add(Direction.LEFT);
-            }
 
-            String rightCoordinates = formatCoordinates(xTile + 1, yTile);
-            if (isWall.get(rightCoordinates) == null) {
-                possibleDirections.add(Direction.RIGHT);
-            }
+    TileDistances getTileDistances() {
+        if (tileDistances == null) {
+            tileDistances = new TileDistances(width, height, walls);
+        }
+        return tileDistances;
+    }
+
+    /**
+     * Gets the number of tiles that have to be walked from one grid position to another without crossing walls.
+     * Targets outside the maze are moved to the closest position inside it.
+     *
+     * @param fromX grid X position of the starting tile
+     * @param fromY grid Y position of the starting tile
+     * @param toX   grid X position of the target tile
+     * @param toY   grid Y position of the target tile
+     * @return distance in tiles, or {@link TileDistances#UNREACHABLE} if there is no path
+     */
+    public int getPathDistance(int fromX, int fromY, int toX, int toY) {
+        int targetX = Math.max(0, Math.min(width - 1, toX));
+        int targetY = Math.max(0, Math.min(height - 1, toY));
+        return getTileDistances().getDistance(fromX, fromY, targetX, targetY);
+    }
+
+    private int getCenterOfTile(int index) {
+        return index * MazeCreator.RESIZING_FACTOR + MazeCreator.RESIZING_FACTOR / 2;
+    }
+
+    /**
+     * Gets the directions that are not blocked by a wall when leaving the centre of the given grid position.
+     * The returned set is shared and unmodifiable. Positions outside the maze are open in every direction.
+     *
+     * @param x grid X position
+     * @param y grid Y position
+     * @return open directions of the tile
+     */
+    public Set<Direction> getOpenDirections(int x, int y) {
+        int mask = isInBounds(x, y) ? openDirections[getTileIndex(x, y)] : ALL_DIRECTIONS;
+        return DIRECTION_SETS.get(mask);
+    }
+
+    /**
+     * Updates the possible directions of the dynamic entity based on the maze configuration
+     */
+    public void updatePossibleDirections(DynamicEntity dynamicEntity) {
+        double centerX = dynamicEntity.getBoundingBox().getMiddleX();
+        double centerY = dynamicEntity.getBoundingBox().getMiddleY();
+        int xTile = (int) Math.floor(centerX / MazeCreator.RESIZING_FACTOR);
+        int yTile = (int) Math.floor(centerY / MazeCreator.RESIZING_FACTOR);
+
+        Set<Direction> possibleDirections;
+
+        if (Math.abs(getCenterOfTile(xTile) - centerX) < MAX_CENTER_DISTANCE &&
+                Math.abs(getCenterOfTile(yTile) - centerY) < MAX_CENTER_DISTANCE) {
+            possibleDirections = getOpenDirections(xTile, yTile);
         } else {
-            possibleDirections.add(dynamicEntity.getDirection());
-            possibleDirections.add(dynamicEntity.getDirection().opposite());
+            // between tile centres, an entity can only keep going or turn back
+            Direction direction = dynamicEntity.getDirection();
+            possibleDirections = DIRECTION_SETS.get(toMask(direction) | toMask(direction.opposite()));
         }
 
         dynamicEntity.setPossibleDirections(possibleDirections);
@@ -0,0 +1,59 @@
+package pacman.model.maze;
+
+import pacman.ConfigurationParseException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Converts a text map file into the binary map format (see {@link MazeFormat})
+ */
+public final class MazeConverter {
+
+    private MazeConverter() {
+    }
+
+    /**
+     * Converts a map file
+     *
+     * @param input  text (or binary) map to read
+     * @param output binary map to write; replaced if it exists
+     * @return layout of the converted map
+     * @throws IOException if either file cannot be accessed
+     */
+    public static MazeLayout convert(Path input, Path output) throws IOException {
+        MazeLayout layout = MazeFormat.read(ByteBuffer.wrap(Files.readAllBytes(input)), input.toString());
+
+        ByteBuffer binary = MazeFormat.writeBinary(layout);
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (binary.hasRemaining()) {
+                channel.write(binary);
+            }
+        }
+        return layout;
+    }
+
+    /**
+     * Usage: {@code MazeConverter <input map> <output binary map>}
+     */
+    public static void main(String[] args) {
+        if (args.length != 2) {
+            System.err.println("Usage: MazeConverter <input map> <output binary map>");
+            System.exit(1);
+        }
+
+        try {
+            MazeLayout layout = convert(Paths.get(args[0]), Paths.get(args[1]));
+            System.out.println("Wrote " + layout.getWidth() + "x" + layout.getHeight() + " maze to " + args[1]);
+        } catch (IOException | ConfigurationParseException e) {
+            System.err.println("Failed to convert maze map: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
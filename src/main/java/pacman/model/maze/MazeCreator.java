@@ -5,11 +5,14 @@ import pacman.model.entity.Renderable;
 import pacman.model.entity.dynamic.physics.Vector2D;
 import pacman.model.factories.RenderableFactoryRegistry;
 
-import java.io.*;
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Responsible for creating renderables and storing it in the Maze
@@ -18,58 +21,82 @@ public class MazeCreator {
 
     public static final int RESIZING_FACTOR = 16;
     private final String fileName;
+    private final MazeTemplate template;
     private final RenderableFactoryRegistry renderableFactoryRegistry;
 
+    /**
+     * Creates mazes from a map file, which is parsed again for every maze
+     */
     public MazeCreator(String fileName,
                        RenderableFactoryRegistry renderableFactoryRegistry) {
         this.fileName = fileName;
+        this.template = null;
         this.renderableFactoryRegistry = renderableFactoryRegistry;
     }
 
-    public Maze createMaze() {
-        Maze maze = new Maze();
-
-        try (InputStream inputStream = openMazeStream();
-             BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
-            int y = 0;
-
-            String line;
-            while ((line = reader.readLine()) != null) {
-                char[] row = line.toCharArray();
+    /**
+     * Creates mazes from an already parsed map, e.g. a cached {@link MazeTemplate#forFile(String)}
+     */
+    public MazeCreator(MazeTemplate template,
+                       RenderableFactoryRegistry renderableFactoryRegistry) {
+        this.fileName = null;
+        this.template = template;
+        this.renderableFactoryRegistry = renderableFactoryRegistry;
+    }
 
-                for (int x = 0; x < row.length; x++) {
-                    Vector2D position = new Vector2D(x * RESIZING_FACTOR, y * RESIZING_FACTOR);
+    /**
+     * Creates a maze with new renderables from the registry. The maze shares the template's tile and wall tables.
+     *
+     * @return new maze
+     */
+    public Maze createMaze() {
+        MazeTemplate mazeTemplate = template != null ? template : MazeTemplate.load(fileName);
+        MazeLayout layout = mazeTemplate.getLayout();
+        Maze maze = mazeTemplate.createEmptyMaze();
+
+        for (int y = 0; y < layout.getHeight(); y++) {
+            for (int x = 0; x < layout.getWidth(); x++) {
+                byte tile = layout.getTile(x, y);
+                if (tile == MazeLayout.NO_TILE) {
+                    continue;
+                }
 
-                    char renderableType = row[x];
-                    Renderable renderable = renderableFactoryRegistry.createRenderable(
-                            renderableType, position
-                    );
+                Vector2D position = new Vector2D(x * RESIZING_FACTOR, y * RESIZING_FACTOR);
 
-                    maze.addRenderable(renderable, renderableType, x, y);
-                }
+                char renderableType = (char) tile;
+                Renderable renderable = renderableFactoryRegistry.createRenderable(
+                        renderableType, position
+                );
 
-                y += 1;
+                maze.addRenderable(renderable, renderableType, x, y);
             }
-        } catch (IOException e) {
-            throw new ConfigurationParseException("Failed to read maze map: " + fileName, e);
         }
 
         return maze;
     }
 
-    private InputStream openMazeStream() throws IOException {
-        Path filePath = Paths.get(fileName);
-        if (Files.exists(filePath)) {
-            return Files.newInputStream(filePath);
-        }
+    /**
+     * Reads the whole map file. Files on the filesystem are memory-mapped rather than copied.
+     */
+    static ByteBuffer readMazeData(String fileName) {
+        try {
+            Path filePath = Paths.get(fileName);
+            if (Files.exists(filePath)) {
+                try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+                    return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                }
+            }
 
-        String resourcePath = normalizeClasspathPath(fileName);
-        InputStream inputStream = MazeCreator.class.getResourceAsStream(resourcePath);
-        if (inputStream == null) {
-            throw new ConfigurationParseException("Maze map not found on filesystem or classpath: " + fileName);
+            String resourcePath = normalizeClasspathPath(fileName);
+            try (InputStream inputStream = MazeCreator.class.getResourceAsStream(resourcePath)) {
+                if (inputStream == null) {
+                    throw new ConfigurationParseException("Maze map not found on filesystem or classpath: " + fileName);
+                }
+                return ByteBuffer.wrap(inputStream.readAllBytes());
+            }
+        } catch (IOException e) {
+            throw new ConfigurationParseException("Failed to read maze map: " + fileName, e);
         }
-
-        return inputStream;
     }
 
     private static String normalizeClasspathPath(String path) {
@@ -0,0 +1,158 @@
+package pacman.model.maze;
+
+import pacman.ConfigurationParseException;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * Reads and writes the two map file formats.
+ * <p>
+ * Text maps are lines of ASCII map characters (see {@link pacman.model.factories.RenderableType}).
+ * Binary maps start with a header of four big-endian ints (the magic number {@code "PMAZ"}, the format version,
+ * the width and the height), followed by width * height tile bytes in row-major order, where 0 marks positions
+ * without a map character. Tiles are ASCII, like the characters of text maps. Binary maps need no line splitting or
+ * string decoding, so large maps load quickly.
+ */
+public final class MazeFormat {
+
+    public static final int MAGIC = 0x504D415A; // "PMAZ"
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 4 * Integer.BYTES;
+
+    private MazeFormat() {
+    }
+
+    /**
+     * Checks if the data starts with the binary map header
+     *
+     * @param data map file contents
+     * @return true, if the data is a binary map
+     */
+    public static boolean isBinary(ByteBuffer data) {
+        return data.remaining() >= Integer.BYTES && data.getInt(data.position()) == MAGIC;
+    }
+
+    /**
+     * Reads a map in either format
+     *
+     * @param data   map file contents
+     * @param source name of the map, used in error messages
+     * @return layout of the map
+     */
+    public static MazeLayout read(ByteBuffer data, String source) {
+        return isBinary(data) ? readBinary(data, source) : readText(data, source);
+    }
+
+    /**
+     * Reads a binary map
+     *
+     * @param data   map file contents, starting with the header
+     * @param source name of the map, used in error messages
+     * @return layout of the map
+     */
+    public static MazeLayout readBinary(ByteBuffer data, String source) {
+        ByteBuffer buffer = data.duplicate();
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new ConfigurationParseException("Not a binary maze map: " + source);
+            }
+            int version = buffer.getInt();
+            if (version != VERSION) {
+                throw new ConfigurationParseException("Unsupported binary maze map version " + version + ": " + source);
+            }
+            int width = buffer.getInt();
+            int height = buffer.getInt();
+            if (width < 0 || height < 0 || (long) width * height != buffer.remaining()) {
+                throw new ConfigurationParseException(
+                        "Binary maze map size does not match its " + width + "x" + height + " header: " + source);
+            }
+
+            byte[] tiles = new byte[width * height];
+            buffer.get(tiles);
+            for (byte tile : tiles) {
+                // the text format rejects the same bytes; as chars they would become unknown map characters
+                if (tile < 0) {
+                    throw new ConfigurationParseException("Binary maze map contains a non-ASCII tile: " + source);
+                }
+            }
+            return new MazeLayout(width, height, tiles);
+        } catch (BufferUnderflowException e) {
+            throw new ConfigurationParseException("Binary maze map is truncated: " + source, e);
+        }
+    }
+
+    /**
+     * Reads a text map. Lines may end with \n, \r or \r\n; the width is that of the longest line.
+     *
+     * @param data   map file contents
+     * @param source name of the map, used in error messages
+     * @return layout of the map
+     */
+    public static MazeLayout readText(ByteBuffer data, String source) {
+        ByteBuffer buffer = data.duplicate();
+
+        // first pass finds the dimensions, second pass fills in the tiles
+        int width = 0;
+        int height = 0;
+        int lineLength = 0;
+        boolean lineOpen = false;
+        while (buffer.hasRemaining()) {
+            byte character = buffer.get();
+            if (character == '\n' || character == '\r') {
+                if (character == '\r' && buffer.hasRemaining() && buffer.get(buffer.position()) == '\n') {
+                    buffer.get();
+                }
+                width = Math.max(width, lineLength);
+                height++;
+                lineLength = 0;
+                lineOpen = false;
+            } else if (character < 0) {
+                throw new ConfigurationParseException("Maze map contains a non-ASCII character: " + source);
+            } else {
+                lineLength++;
+                lineOpen = true;
+            }
+        }
+        if (lineOpen) {
+            width = Math.max(width, lineLength);
+            height++;
+        }
+
+        byte[] tiles = new byte[width * height];
+        buffer = data.duplicate();
+        int x = 0;
+        int y = 0;
+        while (buffer.hasRemaining()) {
+            byte character = buffer.get();
+            if (character == '\n' || character == '\r') {
+                if (character == '\r' && buffer.hasRemaining() && buffer.get(buffer.position()) == '\n') {
+                    buffer.get();
+                }
+                x = 0;
+                y++;
+            } else {
+                tiles[y * width + x++] = character;
+            }
+        }
+
+        return new MazeLayout(width, height, tiles);
+    }
+
+    /**
+     * Encodes a layout as a binary map
+     *
+     * @param layout layout to encode
+     * @return binary map, positioned at its start
+     */
+    public static ByteBuffer writeBinary(MazeLayout layout) {
+        byte[] tiles = layout.getTiles();
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + tiles.length);
+        buffer.putInt(MAGIC)
+                .putInt(VERSION)
+                .putInt(layout.getWidth())
+                .putInt(layout.getHeight())
+                .put(tiles);
+        return buffer.flip();
+    }
+}
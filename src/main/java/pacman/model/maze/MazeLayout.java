@@ -0,0 +1,68 @@
+package pacman.model.maze;
+
+import java.util.Arrays;
+
+/**
+ * Immutable grid of the map characters a maze is built from, as read from a map file
+ */
+public final class MazeLayout {
+
+    /**
+     * Tile value of positions the map file has no character for (e.g. past the end of a short line)
+     */
+    public static final byte NO_TILE = 0;
+
+    private final int width;
+    private final int height;
+    // map characters indexed by y * width + x
+    private final byte[] tiles;
+
+    /**
+     * @param width  number of tile columns
+     * @param height number of tile rows
+     * @param tiles  map characters in row-major order, NO_TILE where the map has no character
+     */
+    public MazeLayout(int width, int height, byte[] tiles) {
+        if (width < 0 || height < 0 || tiles.length != width * height) {
+            throw new IllegalArgumentException("Tiles do not match a " + width + "x" + height + " maze");
+        }
+        this.width = width;
+        this.height = height;
+        this.tiles = tiles.clone();
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @param x grid X position, within the layout
+     * @param y grid Y position, within the layout
+     * @return map character of the tile, or NO_TILE
+     */
+    public byte getTile(int x, int y) {
+        return tiles[y * width + x];
+    }
+
+    /**
+     * @return copy of the map characters in row-major order
+     */
+    public byte[] getTiles() {
+        return tiles.clone();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof MazeLayout layout && width == layout.width && height == layout.height
+                && Arrays.equals(tiles, layout.tiles);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * width + height) + Arrays.hashCode(tiles);
+    }
+}
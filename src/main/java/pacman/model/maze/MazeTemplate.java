@@ -0,0 +1,79 @@
+package pacman.model.maze;
+
+import pacman.model.factories.RenderableType;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable, parsed form of a map file: the tile grid plus the wall and navigation tables derived from it.
+ * <p>
+ * Templates are cached per map path, so every game started in the same JVM shares one parsed layout and only
+ * instantiates its own entities (see {@link MazeCreator}).
+ */
+public final class MazeTemplate {
+
+    private static final Map<String, MazeTemplate> CACHE = new ConcurrentHashMap<>();
+    private final MazeLayout layout;
+    // maze without renderables that owns the tile, wall and direction tables shared by all mazes of this template
+    private final Maze tables;
+
+    public MazeTemplate(MazeLayout layout) {
+        this.layout = layout;
+        this.tables = new Maze(layout.getWidth(), layout.getHeight());
+
+        for (int y = 0; y < layout.getHeight(); y++) {
+            for (int x = 0; x < layout.getWidth(); x++) {
+                char renderableType = (char) layout.getTile(x, y);
+                tables.setTile(x, y, renderableType);
+                if (isWall(renderableType)) {
+                    tables.addWall(x, y);
+                }
+            }
+        }
+        // created up front so that every maze of this template shares one set of distances
+        tables.getTileDistances();
+    }
+
+    /**
+     * Gets the template of a map file, parsing the file only the first time it is requested
+     *
+     * @param fileName map file path (filesystem path or classpath resource)
+     * @return shared template of the map
+     */
+    public static MazeTemplate forFile(String fileName) {
+        return CACHE.computeIfAbsent(fileName, MazeTemplate::load);
+    }
+
+    /**
+     * Parses a map file without consulting or filling the cache
+     *
+     * @param fileName map file path (filesystem path or classpath resource)
+     * @return new template of the map
+     */
+    public static MazeTemplate load(String fileName) {
+        return new MazeTemplate(MazeFormat.read(MazeCreator.readMazeData(fileName), fileName));
+    }
+
+    /**
+     * Drops all cached templates, e.g. after map files were changed on disk
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    private static boolean isWall(char renderableType) {
+        return renderableType >= RenderableType.HORIZONTAL_WALL && renderableType <= RenderableType.DOWN_RIGHT_WALL;
+    }
+
+    public MazeLayout getLayout() {
+        return layout;
+    }
+
+    /**
+     * @return new maze without renderables that shares this template's tables
+     */
+    Maze createEmptyMaze() {
+        return new Maze(tables);
+    }
+}
@@ -0,0 +1,167 @@
+package pacman.model.maze;
+
+import pacman.model.entity.dynamic.physics.BoundingBox;
+import pacman.model.entity.staticentity.StaticEntity;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Uniform grid of tile-sized cells that buckets static entities by the cells their bounding boxes overlap.
+ * <p>
+ * Collision checks query the cells touched by a bounding box and only visit the entities stored there,
+ * instead of every static entity in the maze. Queries reuse internal buffers, so they do not allocate.
+ * The grid is not thread-safe; each level owns its own instance.
+ */
+public class StaticEntityGrid {
+
+    private final int cellSize;
+    private final int columns;
+    private final int rows;
+    private final StaticEntity[] entities;
+    private final boolean[] active;
+
+    // Compressed cell buckets: the entities of cell c are cellEntries[cellStart[c]] .. cellEntries[cellStart[c + 1] - 1]
+    private final int[] cellStart;
+    private final int[] cellEntries;
+
+    // Entities spanning several cells are only reported once per query
+    private final int[] visitStamp;
+    private int currentStamp;
+
+    private int[] candidates;
+    private int numCandidates;
+
+    public StaticEntityGrid(List<? extends StaticEntity> staticEntities, int cellSize) {
+        this.cellSize = cellSize;
+        this.entities = staticEntities.toArray(new StaticEntity[0]);
+        this.active = new boolean[entities.length];
+        this.visitStamp = new int[entities.length];
+        this.candidates = new int[16];
+
+        int maxColumn = 0;
+        int maxRow = 0;
+        for (StaticEntity entity : entities) {
+            BoundingBox box = entity.getBoundingBox();
+            maxColumn = Math.max(maxColumn, toCell(box.getRightX()));
+            maxRow = Math.max(maxRow, toCell(box.getBottomY()));
+        }
+        this.columns = maxColumn + 1;
+        this.rows = maxRow + 1;
+
+        // first pass counts the entries of each cell, second pass fills them in
+        this.cellStart = new int[columns * rows + 1];
+        for (StaticEntity entity : entities) {
+            BoundingBox box = entity.getBoundingBox();
+            for (int row = toRow(box.getTopY()); row <= toRow(box.getBottomY()); row++) {
+                for (int column = toColumn(box.getLeftX()); column <= toColumn(box.getRightX()); column++) {
+                    cellStart[row * columns + column + 1]++;
+                }
+            }
+        }
+        for (int cell = 0; cell < columns * rows; cell++) {
+            cellStart[cell + 1] += cellStart[cell];
+        }
+
+        this.cellEntries = new int[cellStart[columns * rows]];
+        int[] fill = new int[columns * rows];
+        for (int id = 0; id < entities.length; id++) {
+            BoundingBox box = entities[id].getBoundingBox();
+            for (int row = toRow(box.getTopY()); row <= toRow(box.getBottomY()); row++) {
+                for (int column = toColumn(box.getLeftX()); column <= toColumn(box.getRightX()); column++) {
+                    int cell = row * columns + column;
+                    cellEntries[cellStart[cell] + fill[cell]++] = id;
+                }
+            }
+            active[id] = true;
+        }
+    }
+
+    private int toCell(double coordinate) {
+        return Math.max(0, (int) Math.floor(coordinate / cellSize));
+    }
+
+    private int toColumn(double x) {
+        return Math.min(columns - 1, toCell(x));
+    }
+
+    private int toRow(double y) {
+        return Math.min(rows - 1, toCell(y));
+    }
+
+    /**
+     * Collects the active static entities stored in the cells overlapped by the given box.
+     * The results are available through {@link #getCandidate(int)} until the next query.
+     *
+     * @param box bounding box to query
+     * @return number of candidate entities found
+     */
+    public int query(BoundingBox box) {
+        numCandidates = 0;
+        if (entities.length == 0) {
+            return 0;
+        }
+
+        if (++currentStamp == 0) {
+            // stamp counter wrapped around, so old stamps could be mistaken for the current query
+            Arrays.fill(visitStamp, 0);
+            currentStamp = 1;
+        }
+
+        int minColumn = toColumn(box.getLeftX());
+        int maxColumn = toColumn(box.getRightX());
+        int minRow = toRow(box.getTopY());
+        int maxRow = toRow(box.getBottomY());
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                int cell = row * columns + column;
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    int id = cellEntries[i];
+                    if (active[id] && visitStamp[id] != currentStamp) {
+                        visitStamp[id] = currentStamp;
+                        addCandidate(id);
+                    }
+                }
+            }
+        }
+
+        return numCandidates;
+    }
+
+    private void addCandidate(int id) {
+        if (numCandidates == candidates.length) {
+            candidates = Arrays.copyOf(candidates, candidates.length * 2);
+        }
+        candidates[numCandidates++] = id;
+    }
+
+    /**
+     * Gets a candidate found by the last query
+     *
+     * @param index index of the candidate, less than the count returned by the last query
+     * @return candidate static entity
+     */
+    public StaticEntity getCandidate(int index) {
+        return entities[candidates[index]];
+    }
+
+    /**
+     * Removes a candidate found by the last query from the grid, so later queries no longer report it
+     *
+     * @param index index of the candidate, less than the count returned by the last query
+     */
+    public void removeCandidate(int index) {
+        active[candidates[index]] = false;
+    }
+
+    /**
+     * Adds an entity back to the grid or removes it, e.g. when a collected pellet is restored
+     *
+     * @param id     index of the entity in the list the grid was created from
+     * @param active true, if later queries should report the entity
+     */
+    public void setActive(int id, boolean active) {
+        this.active[id] = active;
+    }
+}
@@ -0,0 +1,152 @@
+package pacman.model.maze;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Shortest walking distances between the tiles of a maze, measured in tiles.
+ * <p>
+ * Distances are computed with one breadth-first search per target tile, the first time that target is asked for,
+ * and kept for later lookups. A row takes 4 bytes per tile, so caching a row for every target would take
+ * {@code 4 * (width * height)^2} bytes; at most {@link #MAX_CACHED_BYTES} worth of rows are kept, and the oldest
+ * row is dropped to make room for a new one. Instances may be shared between threads; a row that two threads
+ * compute at the same time is simply computed twice.
+ */
+public final class TileDistances {
+
+    /**
+     * Distance returned when there is no path between two tiles
+     */
+    public static final int UNREACHABLE = -1;
+
+    /**
+     * Upper bound of the memory taken by the cached rows of one instance, in bytes
+     */
+    public static final long MAX_CACHED_BYTES = 64L * 1024 * 1024;
+
+    private final int width;
+    private final int height;
+    private final BitSet walls;
+    // distances from every tile to a target tile, indexed by target tile; null until requested or after eviction
+    private final AtomicReferenceArray<int[]> rows;
+    // targets of the cached rows in the order they were cached, used as a ring buffer
+    private final int[] cachedTargets;
+    private int numCachedRows;
+    private int oldestCachedRow;
+
+    /**
+     * @param width  number of tile columns
+     * @param height number of tile rows
+     * @param walls  wall tiles, indexed by y * width + x; must not change while distances are looked up
+     */
+    public TileDistances(int width, int height, BitSet walls) {
+        this(width, height, walls, (int) Math.min(width * height,
+                Math.max(1, MAX_CACHED_BYTES / ((long) Integer.BYTES * Math.max(1, width * height)))));
+    }
+
+    /**
+     * @param width         number of tile columns
+     * @param height        number of tile rows
+     * @param walls         wall tiles, indexed by y * width + x; must not change while distances are looked up
+     * @param maxCachedRows maximum number of target rows kept at once, positive
+     */
+    TileDistances(int width, int height, BitSet walls, int maxCachedRows) {
+        if (maxCachedRows <= 0) {
+            throw new IllegalArgumentException("Maximum number of cached rows must be positive: " + maxCachedRows);
+        }
+        this.width = width;
+        this.height = height;
+        this.walls = walls;
+        this.rows = new AtomicReferenceArray<>(width * height);
+        this.cachedTargets = new int[maxCachedRows];
+    }
+
+    /**
+     * Gets the number of steps between two tiles, moving only through tiles that are not walls.
+     * The target itself may be a wall, in which case the distance to the closest tile next to it is measured.
+     *
+     * @param fromX grid X position of the starting tile
+     * @param fromY grid Y position of the starting tile
+     * @param toX   grid X position of the target tile
+     * @param toY   grid Y position of the target tile
+     * @return distance in tiles, or UNREACHABLE if either tile is outside the maze or there is no path
+     */
+    public int getDistance(int fromX, int fromY, int toX, int toY) {
+        if (!isInBounds(fromX, fromY) || !isInBounds(toX, toY)) {
+            return UNREACHABLE;
+        }
+
+        int target = toY * width + toX;
+        int[] row = rows.get(target);
+        if (row == null) {
+            row = computeRow(target);
+            cache(target, row);
+        }
+        return row[fromY * width + fromX];
+    }
+
+    private synchronized void cache(int target, int[] row) {
+        if (rows.get(target) != null) {
+            return;
+        }
+        if (numCachedRows == cachedTargets.length) {
+            rows.set(cachedTargets[oldestCachedRow], null);
+            cachedTargets[oldestCachedRow] = target;
+            oldestCachedRow = (oldestCachedRow + 1) % cachedTargets.length;
+        } else {
+            cachedTargets[numCachedRows++] = target;
+        }
+        rows.set(target, row);
+    }
+
+    /**
+     * @return number of target rows currently cached
+     */
+    synchronized int getNumCachedRows() {
+        return numCachedRows;
+    }
+
+    private boolean isInBounds(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    private int[] computeRow(int target) {
+        int[] row = new int[width * height];
+        Arrays.fill(row, UNREACHABLE);
+        int[] queue = new int[width * height];
+        int head = 0;
+        int tail = 0;
+
+        row[target] = 0;
+        queue[tail++] = target;
+        while (head < tail) {
+            int tile = queue[head++];
+            int x = tile % width;
+            int y = tile / width;
+            int distance = row[tile] + 1;
+
+            if (x > 0) {
+                tail = visit(row, queue, tail, tile - 1, distance);
+            }
+            if (x < width - 1) {
+                tail = visit(row, queue, tail, tile + 1, distance);
+            }
+            if (y > 0) {
+                tail = visit(row, queue, tail, tile - width, distance);
+            }
+            if (y < height - 1) {
+                tail = visit(row, queue, tail, tile + width, distance);
+            }
+        }
+        return row;
+    }
+
+    private int visit(int[] row, int[] queue, int tail, int tile, int distance) {
+        if (row[tile] == UNREACHABLE && !walls.get(tile)) {
+            row[tile] = distance;
+            queue[tail++] = tile;
+        }
+        return tail;
+    }
+}
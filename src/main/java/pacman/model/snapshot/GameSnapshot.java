@@ -0,0 +1,25 @@
+package pacman.model.snapshot;
+
+import pacman.model.engine.observer.GameState;
+import pacman.model.entity.dynamic.physics.Direction;
+
+/**
+ * Immutable capture of the complete state of a running game, taken with
+ * {@link pacman.model.engine.GameEngine#snapshot()} and put back with
+ * {@link pacman.model.engine.GameEngine#restore(GameSnapshot)}.
+ * <p>
+ * A snapshot holds only primitives, enums and immutable values, so it can be kept around cheaply, e.g. to roll a
+ * game back or to search ahead from a position. It can be restored into any engine created from the same config.
+ *
+ * @param levelNo          index of the current level
+ * @param gameState        state of the game
+ * @param tickCount        ticks since the game was started
+ * @param score            score shown to the player, including the points of earlier levels
+ * @param randomState      state of the game's random number generator
+ * @param currentCommand   direction of the move the player is making, or null
+ * @param queuedCommand    direction of the move waiting to be taken, or null
+ * @param level            state of the current level
+ */
+public record GameSnapshot(int levelNo, GameState gameState, long tickCount, int score, long randomState,
+                           Direction currentCommand, Direction queuedCommand, LevelSnapshot level) {
+}
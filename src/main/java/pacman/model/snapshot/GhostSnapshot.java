@@ -0,0 +1,27 @@
+package pacman.model.snapshot;
+
+import pacman.model.entity.Sprite;
+import pacman.model.entity.dynamic.ghost.GhostMode;
+import pacman.model.entity.dynamic.physics.Direction;
+import pacman.model.entity.dynamic.physics.Vector2D;
+
+/**
+ * Captured state of a Ghost
+ *
+ * @param kinematics            position, speed and direction
+ * @param ghostMode             current mode of the Ghost
+ * @param frightened            true, if the Ghost is in its frightened state
+ * @param sprite                sprite currently shown
+ * @param currentDirection      direction chosen at the last update, or null if none was chosen yet
+ * @param currentDirectionCount updates the current direction has been kept for
+ * @param targetLocation        location the Ghost is heading for, or null
+ * @param chaseTargetPosition   target of the chase strategy, or null
+ * @param paused                true, if the Ghost is paused after being eaten
+ * @param pauseTickCount        ticks the Ghost has been paused for
+ * @param frightenedTickCount   ticks the Ghost has been frightened for
+ */
+public record GhostSnapshot(KinematicSnapshot kinematics, GhostMode ghostMode, boolean frightened, Sprite sprite,
+                            Direction currentDirection, int currentDirectionCount,
+                            Vector2D targetLocation, Vector2D chaseTargetPosition,
+                            boolean paused, int pauseTickCount, int frightenedTickCount) {
+}
@@ -0,0 +1,44 @@
+package pacman.model.snapshot;
+
+import pacman.model.entity.dynamic.physics.Direction;
+import pacman.model.entity.dynamic.physics.KinematicState;
+import pacman.model.entity.dynamic.physics.KinematicStateImpl;
+import pacman.model.entity.dynamic.physics.Vector2D;
+
+/**
+ * Captured kinematic state of a dynamic entity. The previous position is kept because collisions with walls
+ * move the entity back to it.
+ *
+ * @param x         x coordinate of the position
+ * @param y         y coordinate of the position
+ * @param previousX x coordinate of the position before the last update
+ * @param previousY y coordinate of the position before the last update
+ * @param speed     speed of the entity
+ * @param direction direction the entity is moving in
+ */
+public record KinematicSnapshot(double x, double y, double previousX, double previousY,
+                                double speed, Direction direction) {
+
+    /**
+     * @param kinematicState kinematic state to capture
+     * @return snapshot of the kinematic state
+     */
+    public static KinematicSnapshot of(KinematicState kinematicState) {
+        Vector2D previousPosition = kinematicState.getPreviousPosition();
+        return new KinematicSnapshot(kinematicState.getX(), kinematicState.getY(),
+                previousPosition.getX(), previousPosition.getY(),
+                kinematicState.getSpeed(), kinematicState.getDirection());
+    }
+
+    /**
+     * @return new kinematic state equal to the captured one
+     */
+    public KinematicState toKinematicState() {
+        return new KinematicStateImpl.KinematicStateBuilder()
+                .setPosition(new Vector2D(x, y))
+                .setPreviousPosition(new Vector2D(previousX, previousY))
+                .setSpeed(speed)
+                .setDirection(direction)
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package pacman.model.snapshot;
+
+import pacman.model.engine.observer.GameState;
+import pacman.model.entity.dynamic.ghost.GhostMode;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Captured state of a level
+ *
+ * @param gameState              state of the level
+ * @param tickCount              ticks since the last level state or ghost mode change
+ * @param ghostMode              ghost mode of the level
+ * @param numLives               lives the player has left
+ * @param points                 points collected in the level
+ * @param consecutiveGhostsEaten ghosts eaten since the last power pellet
+ * @param collected              bit i is set if pellet i of the maze (in maze order) has been collected
+ * @param player                 state of Pac-Man
+ * @param ghosts                 state of the Ghosts, in maze order
+ */
+public record LevelSnapshot(GameState gameState, int tickCount, GhostMode ghostMode, int numLives, int points,
+                            int consecutiveGhostsEaten, BitSet collected,
+                            PlayerSnapshot player, List<GhostSnapshot> ghosts) {
+
+    public LevelSnapshot {
+        collected = (BitSet) collected.clone();
+        ghosts = List.copyOf(ghosts);
+    }
+
+    /**
+     * @return copy of the collected pellet bitmap
+     */
+    @Override
+    public BitSet collected() {
+        return (BitSet) collected.clone();
+    }
+
+    /**
+     * @param pellet index of the pellet, in maze order
+     * @return true, if the pellet has been collected
+     */
+    public boolean isCollected(int pellet) {
+        return collected.get(pellet);
+    }
+}
@@ -0,0 +1,13 @@
+package pacman.model.snapshot;
+
+import pacman.model.entity.Sprite;
+
+/**
+ * Captured state of Pac-Man
+ *
+ * @param kinematics  position, speed and direction
+ * @param sprite      sprite for the current direction
+ * @param closedImage true, if the closed-mouth image is showing
+ */
+public record PlayerSnapshot(KinematicSnapshot kinematics, Sprite sprite, boolean closedImage) {
+}
@@ -0,0 +1,275 @@
+package pacman.model.snapshot;
+
+import pacman.model.engine.observer.GameState;
+import pacman.model.entity.Sprite;
+import pacman.model.entity.dynamic.ghost.GhostMode;
+import pacman.model.entity.dynamic.physics.Direction;
+import pacman.model.entity.dynamic.physics.Vector2D;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Binary encoding of {@link GameSnapshot}s for save files and the network, about 500 bytes for the standard maze.
+ * <p>
+ * Format (big-endian): magic {@code PMSN} and a version byte, then the fields of the snapshot in declaration
+ * order. Enums are stored as ordinal bytes (-1 for null), so the version must change whenever one of the encoded
+ * enums does. Coordinates are stored as doubles so a decoded snapshot plays out exactly like the original. The
+ * collected pellets are stored as a bitset of {@code ceil(n / 8)} bytes after an unsigned short byte count, and the
+ * ghosts after an unsigned byte count, so snapshots with more than {@value #MAX_BITSET_SIZE} bitset bytes or
+ * {@value #MAX_GHOSTS} ghosts cannot be encoded. Ghosts store a flag byte for their booleans and for which optional
+ * targets follow.
+ */
+public final class SnapshotCodec {
+
+    public static final int MAGIC = 0x504D534E; // "PMSN"
+    public static final int VERSION = 1;
+    public static final int MAX_BITSET_SIZE = 0xFFFF;
+    public static final int MAX_GHOSTS = 0xFF;
+
+    private static final int HEADER_SIZE = 5;
+    private static final int GAME_SIZE = 4 + 1 + 8 + 4 + 8 + 1 + 1;
+    private static final int LEVEL_SIZE = 1 + 4 + 1 + 4 + 4 + 4 + 2 + 1;
+    private static final int KINEMATICS_SIZE = 5 * 8 + 1;
+    private static final int PLAYER_SIZE = KINEMATICS_SIZE + 1 + 1;
+    private static final int GHOST_SIZE = KINEMATICS_SIZE + 1 + 1 + 1 + 1 + 4 + 4 + 4;
+    private static final int VECTOR_SIZE = 2 * 8;
+
+    private static final int FRIGHTENED = 1;
+    private static final int PAUSED = 1 << 1;
+    private static final int HAS_TARGET_LOCATION = 1 << 2;
+    private static final int HAS_CHASE_TARGET = 1 << 3;
+
+    private static final GameState[] GAME_STATES = GameState.values();
+    private static final GhostMode[] GHOST_MODES = GhostMode.values();
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final Sprite[] SPRITES = Sprite.values();
+
+    private SnapshotCodec() {
+    }
+
+    /**
+     * @param snapshot snapshot to measure
+     * @return number of bytes {@link #encode(GameSnapshot, ByteBuffer)} writes for the snapshot
+     * @throws IllegalArgumentException if the snapshot is too large to encode
+     */
+    public static int getEncodedSize(GameSnapshot snapshot) {
+        LevelSnapshot level = snapshot.level();
+        checkEncodable(level);
+        int size = HEADER_SIZE + GAME_SIZE + LEVEL_SIZE + getBitsetSize(level) + PLAYER_SIZE;
+        for (GhostSnapshot ghost : level.ghosts()) {
+            size += GHOST_SIZE;
+            if (ghost.targetLocation() != null) {
+                size += VECTOR_SIZE;
+            }
+            if (ghost.chaseTargetPosition() != null) {
+                size += VECTOR_SIZE;
+            }
+        }
+        return size;
+    }
+
+    private static int getBitsetSize(LevelSnapshot level) {
+        return (level.collected().length() + 7) / 8;
+    }
+
+    private static void checkEncodable(LevelSnapshot level) {
+        int bitsetSize = getBitsetSize(level);
+        if (bitsetSize > MAX_BITSET_SIZE) {
+            throw new IllegalArgumentException("Too many pellets to encode: " + bitsetSize + " bitset bytes");
+        }
+        if (level.ghosts().size() > MAX_GHOSTS) {
+            throw new IllegalArgumentException("Too many ghosts to encode: " + level.ghosts().size());
+        }
+    }
+
+    /**
+     * @param snapshot snapshot to encode
+     * @return encoded snapshot
+     * @throws IllegalArgumentException if the snapshot is too large to encode
+     */
+    public static byte[] encode(GameSnapshot snapshot) {
+        ByteBuffer buffer = ByteBuffer.allocate(getEncodedSize(snapshot));
+        encode(snapshot, buffer);
+        return buffer.array();
+    }
+
+    /**
+     * Writes a snapshot at the buffer's position and advances it
+     *
+     * @param snapshot snapshot to encode
+     * @param buffer   buffer with at least {@link #getEncodedSize(GameSnapshot)} bytes remaining
+     * @throws IllegalArgumentException         if the snapshot is too large to encode
+     * @throws java.nio.BufferOverflowException if the buffer is too small
+     */
+    public static void encode(GameSnapshot snapshot, ByteBuffer buffer) {
+        LevelSnapshot level = snapshot.level();
+        checkEncodable(level);
+
+        buffer.putInt(MAGIC);
+        buffer.put((byte) VERSION);
+
+        buffer.putInt(snapshot.levelNo());
+        putEnum(buffer, snapshot.gameState());
+        buffer.putLong(snapshot.tickCount());
+        buffer.putInt(snapshot.score());
+        buffer.putLong(snapshot.randomState());
+        putEnum(buffer, snapshot.currentCommand());
+        putEnum(buffer, snapshot.queuedCommand());
+
+        putEnum(buffer, level.gameState());
+        buffer.putInt(level.tickCount());
+        putEnum(buffer, level.ghostMode());
+        buffer.putInt(level.numLives());
+        buffer.putInt(level.points());
+        buffer.putInt(level.consecutiveGhostsEaten());
+
+        // BitSet.toByteArray is little-endian by bit index and drops trailing zero bytes, matching the length
+        byte[] collected = level.collected().toByteArray();
+        buffer.putShort((short) collected.length);
+        buffer.put(collected);
+
+        PlayerSnapshot player = level.player();
+        putKinematics(buffer, player.kinematics());
+        putEnum(buffer, player.sprite());
+        buffer.put((byte) (player.closedImage() ? 1 : 0));
+
+        buffer.put((byte) level.ghosts().size());
+        for (GhostSnapshot ghost : level.ghosts()) {
+            putKinematics(buffer, ghost.kinematics());
+            putEnum(buffer, ghost.ghostMode());
+            putEnum(buffer, ghost.sprite());
+            putEnum(buffer, ghost.currentDirection());
+            int flags = (ghost.frightened() ? FRIGHTENED : 0)
+                    | (ghost.paused() ? PAUSED : 0)
+                    | (ghost.targetLocation() != null ? HAS_TARGET_LOCATION : 0)
+                    | (ghost.chaseTargetPosition() != null ? HAS_CHASE_TARGET : 0);
+            buffer.put((byte) flags);
+            buffer.putInt(ghost.currentDirectionCount());
+            buffer.putInt(ghost.pauseTickCount());
+            buffer.putInt(ghost.frightenedTickCount());
+            if (ghost.targetLocation() != null) {
+                putVector(buffer, ghost.targetLocation());
+            }
+            if (ghost.chaseTargetPosition() != null) {
+                putVector(buffer, ghost.chaseTargetPosition());
+            }
+        }
+    }
+
+    private static void putEnum(ByteBuffer buffer, Enum<?> value) {
+        buffer.put((byte) (value == null ? -1 : value.ordinal()));
+    }
+
+    private static void putKinematics(ByteBuffer buffer, KinematicSnapshot kinematics) {
+        buffer.putDouble(kinematics.x());
+        buffer.putDouble(kinematics.y());
+        buffer.putDouble(kinematics.previousX());
+        buffer.putDouble(kinematics.previousY());
+        buffer.putDouble(kinematics.speed());
+        putEnum(buffer, kinematics.direction());
+    }
+
+    private static void putVector(ByteBuffer buffer, Vector2D vector) {
+        buffer.putDouble(vector.getX());
+        buffer.putDouble(vector.getY());
+    }
+
+    /**
+     * @param data encoded snapshot
+     * @return decoded snapshot
+     * @throws IllegalArgumentException if the data is not an encoded snapshot of this version
+     */
+    public static GameSnapshot decode(byte[] data) {
+        return decode(ByteBuffer.wrap(data));
+    }
+
+    /**
+     * Reads a snapshot at the buffer's position and advances it past the snapshot
+     *
+     * @param buffer buffer holding an encoded snapshot
+     * @return decoded snapshot
+     * @throws IllegalArgumentException if the buffer does not hold an encoded snapshot of this version
+     */
+    public static GameSnapshot decode(ByteBuffer buffer) {
+        try {
+            if (buffer.getInt() != MAGIC) {
+                throw new IllegalArgumentException("Not an encoded snapshot");
+            }
+            int version = buffer.get();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported snapshot version: " + version);
+            }
+
+            int levelNo = buffer.getInt();
+            GameState gameState = getEnum(buffer, GAME_STATES);
+            long tickCount = buffer.getLong();
+            int score = buffer.getInt();
+            long randomState = buffer.getLong();
+            Direction currentCommand = getEnum(buffer, DIRECTIONS);
+            Direction queuedCommand = getEnum(buffer, DIRECTIONS);
+
+            GameState levelGameState = getEnum(buffer, GAME_STATES);
+            int levelTickCount = buffer.getInt();
+            GhostMode ghostMode = getEnum(buffer, GHOST_MODES);
+            int numLives = buffer.getInt();
+            int points = buffer.getInt();
+            int consecutiveGhostsEaten = buffer.getInt();
+
+            byte[] collected = new byte[Short.toUnsignedInt(buffer.getShort())];
+            buffer.get(collected);
+
+            PlayerSnapshot player = new PlayerSnapshot(getKinematics(buffer), getEnum(buffer, SPRITES),
+                    buffer.get() != 0);
+
+            int numGhosts = Byte.toUnsignedInt(buffer.get());
+            List<GhostSnapshot> ghosts = new ArrayList<>(numGhosts);
+            for (int i = 0; i < numGhosts; i++) {
+                KinematicSnapshot kinematics = getKinematics(buffer);
+                GhostMode mode = getEnum(buffer, GHOST_MODES);
+                Sprite sprite = getEnum(buffer, SPRITES);
+                Direction currentDirection = getEnum(buffer, DIRECTIONS);
+                int flags = buffer.get();
+                int currentDirectionCount = buffer.getInt();
+                int pauseTickCount = buffer.getInt();
+                int frightenedTickCount = buffer.getInt();
+                Vector2D targetLocation = (flags & HAS_TARGET_LOCATION) != 0 ? getVector(buffer) : null;
+                Vector2D chaseTarget = (flags & HAS_CHASE_TARGET) != 0 ? getVector(buffer) : null;
+                ghosts.add(new GhostSnapshot(kinematics, mode, (flags & FRIGHTENED) != 0, sprite,
+                        currentDirection, currentDirectionCount, targetLocation, chaseTarget,
+                        (flags & PAUSED) != 0, pauseTickCount, frightenedTickCount));
+            }
+
+            LevelSnapshot level = new LevelSnapshot(levelGameState, levelTickCount, ghostMode, numLives, points,
+                    consecutiveGhostsEaten, BitSet.valueOf(collected), player, ghosts);
+            return new GameSnapshot(levelNo, gameState, tickCount, score, randomState,
+                    currentCommand, queuedCommand, level);
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Encoded snapshot is truncated", e);
+        }
+    }
+
+    private static <E extends Enum<E>> E getEnum(ByteBuffer buffer, E[] values) {
+        int ordinal = buffer.get();
+        if (ordinal == -1) {
+            return null;
+        }
+        if (ordinal < 0 || ordinal >= values.length) {
+            throw new IllegalArgumentException("Unknown " + values[0].getDeclaringClass().getSimpleName()
+                    + " in snapshot: " + ordinal);
+        }
+        return values[ordinal];
+    }
+
+    private static KinematicSnapshot getKinematics(ByteBuffer buffer) {
+        return new KinematicSnapshot(buffer.getDouble(), buffer.getDouble(), buffer.getDouble(), buffer.getDouble(),
+                buffer.getDouble(), getEnum(buffer, DIRECTIONS));
+    }
+
+    private static Vector2D getVector(ByteBuffer buffer) {
+        return new Vector2D(buffer.getDouble(), buffer.getDouble());
+    }
+}
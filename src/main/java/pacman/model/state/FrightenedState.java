@@ -8,21 +8,25 @@ import pacman.model.entity.dynamic.ghost.GhostMode;
 import pacman.model.entity.dynamic.physics.Direction;
 import pacman.model.level.Level;
 import pacman.model.maze.Maze;
+import pacman.util.SplitMix64;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Random;
 import java.util.Set;
 
 // Represents the frightened state of a Ghost, where it flees from Pac-Man and moves randomly
 public class FrightenedState implements GhostState {
 
+    private static final Direction[] DIRECTIONS = Direction.values();
+
     // The Ghost that is currently in the frightened state
     Ghost ghost;
 
+    // Random number generator of the game, shared by all Ghosts so that a game's choices follow one sequence
+    private final SplitMix64 random;
+
     // Constructor to initialize the Ghost in its frightened state
-    public FrightenedState(Ghost ghost) {
+    public FrightenedState(Ghost ghost, SplitMix64 random) {
         this.ghost = ghost;
+        this.random = random;
     }
 
     @Override
@@ -50,23 +54,29 @@ public class FrightenedState implements GhostState {
 
     // Helper method to select a random direction, avoiding the opposite of the current direction
     private Direction selectRandomDirection(Ghost ghost, Set<Direction> possibleDirections) {
-        List<Direction> validDirections = new ArrayList<>();
-        Random random = new Random();
+        Direction reverse = ghost.getDirection() == null ? null : ghost.getDirection().opposite();
 
-        // Only add directions that are not the opposite of the current direction, if it exists
-        for (Direction direction : possibleDirections) {
-            if (ghost.getDirection() == null || direction != ghost.getDirection().opposite()) {
-                validDirections.add(direction);
+        // Count the directions that are not the opposite of the current direction, if it exists
+        int numValidDirections = 0;
+        for (Direction direction : DIRECTIONS) {
+            if (direction != reverse && possibleDirections.contains(direction)) {
+                numValidDirections++;
             }
         }
 
         // If no valid directions are found, choose the opposite direction as a fallback
-        if (validDirections.isEmpty()) {
-            return ghost.getDirection().opposite();
+        if (numValidDirections == 0) {
+            return reverse;
         }
 
-        // Randomly select a direction from the list of valid directions
-        return validDirections.get(random.nextInt(validDirections.size()));
+        // Randomly select one of the valid directions
+        int choice = random.nextInt(numValidDirections);
+        for (Direction direction : DIRECTIONS) {
+            if (direction != reverse && possibleDirections.contains(direction) && choice-- == 0) {
+                return direction;
+            }
+        }
+        throw new IllegalStateException("Possible directions changed during selection");
     }
 
     @Override
@@ -100,8 +110,8 @@ public class FrightenedState implements GhostState {
         // Change the Ghost's mode to SCATTER, ending the frightened state
         ghost.setGhostMode(GhostMode.SCATTER);
 
-        // Reset the Ghost's image to its normal appearance
-        ghost.setCurrentImage(ghost.getNormalImage());
+        // Reset the Ghost's sprite to its normal appearance
+        ghost.setCurrentSprite(ghost.getNormalSprite());
 
         // Reset the frightened tick count as the frightened state ends
         ghost.resetFrightenedTickCount();
@@ -33,8 +33,8 @@ public class NormalState implements GhostState {
 
     @Override
     public void switchToNextState() {
-        // Change the Ghost's image to its frightened appearance
-        ghost.setCurrentImage(ghost.getFrightenedImage());
+        // Change the Ghost's sprite to its frightened appearance
+        ghost.setCurrentSprite(ghost.getFrightenedSprite());
 
         // Set the Ghost's mode to FRIGHTENED, indicating that it should flee from Pac-Man
         ghost.setGhostMode(GhostMode.FRIGHTENED);
@@ -0,0 +1,27 @@
+package pacman.model.strategy;
+
+import pacman.model.entity.dynamic.ghost.Ghost;
+import pacman.model.entity.dynamic.physics.Direction;
+import pacman.model.entity.dynamic.physics.KinematicState;
+import pacman.model.entity.dynamic.physics.Vector2D;
+
+// Strategy for the classic Ghost navigation: the straight-line distance from the position the
+// Ghost would move to, ignoring any walls between it and the target.
+public class EuclideanNavigationStrategy implements GhostNavigationStrategy {
+
+    /**
+     * Returns the straight-line distance between the Ghost's next position in the given direction and the target.
+     *
+     * @param ghost     the Ghost choosing a direction
+     * @param direction the direction being considered
+     * @param target    the position the Ghost is heading for
+     * @return Euclidean distance to the target in pixels
+     */
+    @Override
+    public double getDistance(Ghost ghost, Direction direction, Vector2D target) {
+        KinematicState kinematicState = ghost.getKinematicState();
+        return Vector2D.calculateEuclideanDistance(
+                kinematicState.getPotentialX(direction), kinematicState.getPotentialY(direction),
+                target.getX(), target.getY());
+    }
+}
@@ -0,0 +1,21 @@
+package pacman.model.strategy;
+
+import pacman.model.entity.dynamic.ghost.Ghost;
+import pacman.model.entity.dynamic.physics.Direction;
+import pacman.model.entity.dynamic.physics.Vector2D;
+
+// Interface defining how a Ghost measures how far a move takes it from its target.
+// At each decision the Ghost picks the direction with the smallest distance, so the
+// implementation decides whether Ghosts steer by straight-line distance or by the maze layout.
+public interface GhostNavigationStrategy {
+
+    /**
+     * Measures the distance to the target after the Ghost moves in the given direction
+     *
+     * @param ghost     the Ghost choosing a direction
+     * @param direction the direction being considered
+     * @param target    the position the Ghost is heading for
+     * @return distance to the target in pixels; smaller is better
+     */
+    double getDistance(Ghost ghost, Direction direction, Vector2D target);
+}
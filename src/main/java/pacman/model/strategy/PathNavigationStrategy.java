@@ -0,0 +1,54 @@
+package pacman.model.strategy;
+
+import pacman.model.entity.dynamic.ghost.Ghost;
+import pacman.model.entity.dynamic.physics.BoundingBox;
+import pacman.model.entity.dynamic.physics.Direction;
+import pacman.model.entity.dynamic.physics.Vector2D;
+import pacman.model.maze.Maze;
+import pacman.model.maze.MazeCreator;
+import pacman.model.maze.TileDistances;
+
+// Strategy for Ghosts that know the maze: the walking distance from the neighbouring tile in the
+// given direction to the target's tile, looked up from the maze's precomputed tile distances.
+// Ghosts using it go around walls instead of getting stuck behind them.
+public class PathNavigationStrategy implements GhostNavigationStrategy {
+
+    private final Maze maze;
+    // used when the target cannot be walked to at all, e.g. a scatter corner inside the outer wall
+    private final GhostNavigationStrategy fallback;
+
+    public PathNavigationStrategy(Maze maze) {
+        this.maze = maze;
+        this.fallback = new EuclideanNavigationStrategy();
+    }
+
+    /**
+     * Returns the walking distance from the tile next to the Ghost in the given direction to the target's tile.
+     *
+     * @param ghost     the Ghost choosing a direction
+     * @param direction the direction being considered
+     * @param target    the position the Ghost is heading for
+     * @return path distance to the target in pixels, infinite if the move leads away from every path to the target
+     */
+    @Override
+    public double getDistance(Ghost ghost, Direction direction, Vector2D target) {
+        BoundingBox boundingBox = ghost.getBoundingBox();
+        int x = toTile(boundingBox.getMiddleX());
+        int y = toTile(boundingBox.getMiddleY());
+        int targetX = toTile(target.getX());
+        int targetY = toTile(target.getY());
+
+        int distance = maze.getPathDistance(x + direction.getXOffset(), y + direction.getYOffset(), targetX, targetY);
+        if (distance != TileDistances.UNREACHABLE) {
+            return (double) distance * MazeCreator.RESIZING_FACTOR;
+        }
+        if (maze.getPathDistance(x, y, targetX, targetY) == TileDistances.UNREACHABLE) {
+            return fallback.getDistance(ghost, direction, target);
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    private static int toTile(double coordinate) {
+        return (int) Math.floor(coordinate / MazeCreator.RESIZING_FACTOR);
+    }
+}
@@ -0,0 +1,163 @@
+package pacman.server;
+
+import pacman.model.entity.dynamic.physics.Direction;
+import pacman.model.snapshot.GameSnapshot;
+import pacman.model.snapshot.SnapshotCodec;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.OptionalLong;
+
+/**
+ * Plays a game hosted by a {@link GameServer} on this machine: sends moves and receives the published snapshots.
+ * <p>
+ * Moves may be sent from one thread while snapshots are received on another.
+ */
+public final class GameClient implements Closeable {
+
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private final long sessionId;
+    private final long seed;
+    private boolean ended;
+
+    private GameClient(Socket socket, OptionalLong seed) throws IOException {
+        this.socket = socket;
+        socket.setTcpNoDelay(true);
+        this.in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        this.out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+        out.writeInt(GameProtocol.MAGIC);
+        out.writeShort(GameProtocol.VERSION);
+        out.writeBoolean(seed.isPresent());
+        out.writeLong(seed.orElse(0));
+        out.flush();
+
+        if (in.readInt() != GameProtocol.MAGIC) {
+            throw new IOException("Not a game server");
+        }
+        int version = in.readUnsignedShort();
+        if (version != GameProtocol.VERSION) {
+            throw new IOException("Unsupported game server version: " + version);
+        }
+        this.sessionId = in.readLong();
+        this.seed = in.readLong();
+    }
+
+    /**
+     * Starts a game with a random seed
+     *
+     * @param port port of a game server on the loopback address
+     * @return client of the new game
+     * @throws IOException if the server cannot be reached
+     */
+    public static GameClient connect(int port) throws IOException {
+        return connect(port, OptionalLong.empty());
+    }
+
+    /**
+     * Starts a game with the given seed
+     *
+     * @param port port of a game server on the loopback address
+     * @param seed seed of the game
+     * @return client of the new game
+     * @throws IOException if the server cannot be reached
+     */
+    public static GameClient connect(int port, long seed) throws IOException {
+        return connect(port, OptionalLong.of(seed));
+    }
+
+    private static GameClient connect(int port, OptionalLong seed) throws IOException {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        try {
+            return new GameClient(socket, seed);
+        } catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    public long getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * @return seed of the game, so it can be replayed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Sends a move, which takes effect at one of the next ticks
+     *
+     * @param direction direction to move in
+     * @throws IOException if the move cannot be sent
+     */
+    public synchronized void sendMove(Direction direction) throws IOException {
+        out.writeByte(GameProtocol.MOVE);
+        out.writeByte(direction.ordinal());
+        out.flush();
+    }
+
+    /**
+     * Waits for the next snapshot published by the server
+     *
+     * @return the snapshot, or null once the final snapshot of the game has been received
+     * @throws IOException if the connection fails or the server sends something else
+     */
+    public GameSnapshot receive() throws IOException {
+        if (ended) {
+            return null;
+        }
+        int type = in.readUnsignedByte();
+        if (type != GameProtocol.SNAPSHOT && type != GameProtocol.END) {
+            throw new IOException("Unknown message type: " + type);
+        }
+        int length = in.readInt();
+        if (length < 0 || length > GameProtocol.MAX_SNAPSHOT_SIZE) {
+            throw new IOException("Invalid snapshot length: " + length);
+        }
+        byte[] encoded = new byte[length];
+        in.readFully(encoded);
+        ended = type == GameProtocol.END;
+        try {
+            return SnapshotCodec.decode(encoded);
+        } catch (IllegalArgumentException e) {
+            throw new IOException("Invalid snapshot", e);
+        }
+    }
+
+    /**
+     * @return true, if the last snapshot received was the final one of the game
+     */
+    public boolean isEnded() {
+        return ended;
+    }
+
+    /**
+     * Leaves the game, which ends the session on the server
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            synchronized (this) {
+                if (!socket.isClosed() && !ended) {
+                    out.writeByte(GameProtocol.QUIT);
+                    out.flush();
+                }
+            }
+        } catch (IOException e) {
+            // the server may already be gone
+        } finally {
+            socket.close();
+        }
+    }
+}
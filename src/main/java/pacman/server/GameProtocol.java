@@ -0,0 +1,32 @@
+package pacman.server;
+
+/**
+ * Wire format between {@link GameServer} and {@link GameClient} (big-endian).
+ * <p>
+ * The client opens with magic {@code PMGS}, a version short, a byte telling whether a seed follows and the seed
+ * as a long. The server answers with the magic, the version, the session id and the seed of the game as longs.
+ * From then on the client sends moves (type byte and {@link pacman.model.entity.dynamic.physics.Direction}
+ * ordinal byte) or a quit byte, and the server publishes snapshots: a type byte, the length as an int and a
+ * snapshot encoded by {@link pacman.model.snapshot.SnapshotCodec}. The last snapshot has the end type, after which
+ * the server closes the connection. A client that reads slower than snapshots are published skips snapshots, and
+ * one that stops reading is disconnected.
+ */
+final class GameProtocol {
+
+    static final int MAGIC = 0x504D4753; // "PMGS"
+    static final int VERSION = 1;
+
+    // client to server
+    static final int MOVE = 1;
+    static final int QUIT = 2;
+
+    // server to client
+    static final int SNAPSHOT = 1;
+    static final int END = 2;
+
+    // snapshots are a few hundred bytes; anything much larger is not a snapshot
+    static final int MAX_SNAPSHOT_SIZE = 1 << 16;
+
+    private GameProtocol() {
+    }
+}
@@ -0,0 +1,271 @@
+package pacman.server;
+
+import pacman.ConfigurationParseException;
+import pacman.model.engine.GameEngine;
+import pacman.model.engine.GameEngineImpl;
+import pacman.simulation.SimulationRunner;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Hosts many games in one JVM, one session per client connected over a loopback socket.
+ * <p>
+ * Every session ticks its own engine on a {@link TickScheduler} shared by all sessions, with one worker per
+ * core by default, so the number of games is not bounded by the number of threads. Each connection has an input
+ * thread that only waits for the client's moves and an output thread that writes the published snapshots, so a
+ * client that reads slowly never holds up a tick thread. The protocol is described in {@link GameProtocol};
+ * {@link GameClient} implements the client side.
+ */
+public final class GameServer implements Closeable {
+
+    public static final double DEFAULT_TICK_RATE = 1000.0 / 34;
+    public static final int DEFAULT_PORT = 7463;
+    private static final int HANDSHAKE_TIMEOUT_MILLIS = 10_000;
+    private static final long DEFAULT_WRITE_TIMEOUT_MILLIS = 10_000;
+    // room for about a hundred snapshots; a fixed size also turns off the kernel's buffer autotuning, which would
+    // let a client that stopped reading absorb megabytes before its writes block
+    private static final int SEND_BUFFER_SIZE = 64 * 1024;
+
+    private final String configPath;
+    private final int snapshotInterval;
+    private final long writeTimeoutNanos;
+    private final ServerSocket serverSocket;
+    private final TickScheduler scheduler;
+    private final ExecutorService connections;
+    private final Map<Long, GameSession> sessions;
+    private final AtomicLong nextSessionId;
+    private volatile boolean closed;
+
+    /**
+     * Opens the server socket on the loopback address; call {@link #start()} to accept clients
+     *
+     * @param configPath       config every game is created from
+     * @param port             port to listen on, or 0 for any free port
+     * @param tickRate         ticks per second of every game
+     * @param snapshotInterval ticks between the snapshots published to a client
+     * @param tickThreads      number of threads ticking the games
+     * @throws ConfigurationParseException if the config is invalid
+     * @throws IOException                 if the socket cannot be opened
+     */
+    public GameServer(String configPath, int port, double tickRate, int snapshotInterval, int tickThreads)
+            throws IOException {
+        this(configPath, port, tickRate, snapshotInterval, tickThreads, DEFAULT_WRITE_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Like {@link #GameServer(String, int, double, int, int)}, with a custom limit on how long a client may stop
+     * reading before it is disconnected
+     *
+     * @param writeTimeoutMillis time a write to a client may stay blocked before the client is disconnected
+     */
+    GameServer(String configPath, int port, double tickRate, int snapshotInterval, int tickThreads,
+               long writeTimeoutMillis) throws IOException {
+        if (!(tickRate > 0)) {
+            throw new IllegalArgumentException("Tick rate must be positive: " + tickRate);
+        }
+        if (snapshotInterval <= 0) {
+            throw new IllegalArgumentException("Snapshot interval must be positive: " + snapshotInterval);
+        }
+        if (tickThreads <= 0) {
+            throw new IllegalArgumentException("Number of tick threads must be positive: " + tickThreads);
+        }
+        if (writeTimeoutMillis <= 0) {
+            throw new IllegalArgumentException("Write timeout must be positive: " + writeTimeoutMillis);
+        }
+        // fail on a bad config now rather than on the first connection
+        new GameEngineImpl(configPath, 0);
+
+        this.configPath = configPath;
+        this.snapshotInterval = snapshotInterval;
+        this.writeTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(writeTimeoutMillis);
+        this.serverSocket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        this.scheduler = new TickScheduler(tickThreads, Math.max(1, Math.round(1_000_000_000 / tickRate)));
+        this.connections = Executors.newCachedThreadPool(daemonThreads("game-connection-"));
+        this.sessions = new ConcurrentHashMap<>();
+        this.nextSessionId = new AtomicLong(1);
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /**
+     * @return port the server listens on
+     */
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * @return number of games being played
+     */
+    public int getNumSessions() {
+        return sessions.size();
+    }
+
+    /**
+     * @return largest lateness of the latest tick of any session, in nanoseconds; growing lateness means the
+     * tick threads cannot keep up with the number of games
+     */
+    public long getMaxTickLatenessNanos() {
+        long max = 0;
+        for (GameSession session : sessions.values()) {
+            max = Math.max(max, session.getLastTickLatenessNanos());
+        }
+        return max;
+    }
+
+    /**
+     * Starts accepting clients on a background thread
+     */
+    public void start() {
+        connections.execute(this::acceptClients);
+    }
+
+    private void acceptClients() {
+        while (!closed) {
+            Socket socket;
+            try {
+                socket = serverSocket.accept();
+            } catch (SocketException e) {
+                // server socket closed
+                return;
+            } catch (IOException e) {
+                if (closed) {
+                    return;
+                }
+                continue;
+            }
+            connections.execute(() -> serve(socket));
+        }
+    }
+
+    private void serve(Socket socket) {
+        GameSession session;
+        try {
+            socket.setTcpNoDelay(true);
+            socket.setSendBufferSize(SEND_BUFFER_SIZE);
+            socket.setSoTimeout(HANDSHAKE_TIMEOUT_MILLIS);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+
+            if (in.readInt() != GameProtocol.MAGIC || in.readUnsignedShort() != GameProtocol.VERSION) {
+                socket.close();
+                return;
+            }
+            boolean hasSeed = in.readBoolean();
+            long seed = in.readLong();
+            GameEngine engine = hasSeed ? new GameEngineImpl(configPath, seed) : new GameEngineImpl(configPath);
+
+            long id = nextSessionId.getAndIncrement();
+            session = new GameSession(id, socket, in, out, engine, snapshotInterval, writeTimeoutNanos,
+                    () -> sessions.remove(id));
+            out.writeInt(GameProtocol.MAGIC);
+            out.writeShort(GameProtocol.VERSION);
+            out.writeLong(id);
+            out.writeLong(engine.getSeed());
+            out.flush();
+            socket.setSoTimeout(0);
+        } catch (IOException | RuntimeException e) {
+            closeQuietly(socket);
+            return;
+        }
+
+        sessions.put(session.getId(), session);
+        if (closed) {
+            session.close();
+            return;
+        }
+        try {
+            connections.execute(session::writeOutput);
+        } catch (RejectedExecutionException e) {
+            // the server is closing
+            session.close();
+            return;
+        }
+        session.start(scheduler);
+        session.readInput();
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // nothing left to do with the connection
+        }
+    }
+
+    /**
+     * Stops accepting clients and ends every session
+     */
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to close server socket", e);
+        } finally {
+            for (GameSession session : sessions.values()) {
+                session.close();
+            }
+            scheduler.close();
+            connections.shutdownNow();
+        }
+    }
+
+    /**
+     * Runs a game server until the process is stopped.
+     * <p>
+     * Accepts {@code --config=<path>}, {@code --port=<n>} (default 7463), {@code --tickRate=<ticks per second>},
+     * {@code --snapshotInterval=<ticks>} (default 1) and {@code --threads=<n>} (default: one per core).
+     */
+    public static void main(String[] args) {
+        try {
+            Map<String, String> options = SimulationRunner.parseOptions(args);
+            GameServer server = new GameServer(
+                    options.getOrDefault("config", "/config.json"),
+                    Integer.parseInt(options.getOrDefault("port", String.valueOf(DEFAULT_PORT))),
+                    Double.parseDouble(options.getOrDefault("tickRate", String.valueOf(DEFAULT_TICK_RATE))),
+                    Integer.parseInt(options.getOrDefault("snapshotInterval", "1")),
+                    Integer.parseInt(options.getOrDefault("threads",
+                            String.valueOf(Runtime.getRuntime().availableProcessors()))));
+            server.start();
+            System.out.println("Listening on " + InetAddress.getLoopbackAddress().getHostAddress() + ":"
+                    + server.getPort());
+            Thread.currentThread().join();
+        } catch (ConfigurationParseException | IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("Failed to start server: " + e.getMessage());
+            System.exit(1);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package pacman.server;
+
+import pacman.model.engine.GameEngine;
+import pacman.model.engine.observer.GameState;
+import pacman.model.entity.dynamic.physics.Direction;
+import pacman.model.entity.dynamic.player.command.*;
+import pacman.model.snapshot.GameSnapshot;
+import pacman.model.snapshot.SnapshotCodec;
+
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * One game hosted by a {@link GameServer} for one connected client.
+ * <p>
+ * The engine is only touched by the session's tick task, which the server's tick scheduler never runs
+ * concurrently with itself. The client's moves are read on the session's input thread and handed to the engine's
+ * movement invoker, whose queue is built for exactly this split.
+ * <p>
+ * The tick task never touches the socket, since a blocking write would stall every game on its tick thread.
+ * It encodes snapshots into an outbox of one message, which the session's output thread writes to the client.
+ * A snapshot the output thread has not taken yet is replaced by the next one, so a client that reads slowly
+ * receives fewer snapshots rather than older ones. A client whose write has been blocked for longer than the
+ * write timeout has stopped reading and is disconnected.
+ */
+final class GameSession implements Closeable {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+    private static final int MESSAGE_HEADER_SIZE = 1 + 4;
+
+    private final long id;
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private final GameEngine engine;
+    private final int snapshotInterval;
+    private final long writeTimeoutNanos;
+    private final Runnable onClose;
+    private final Map<Direction, MoveCommand> commands;
+    private final AtomicBoolean closed;
+    private TickScheduler.Registration tickTask;
+    private long ticks;
+    private volatile boolean ended;
+    // only used by the tick task
+    private boolean endPublished;
+
+    // encoded message waiting for the output thread, or null; guarded by the outbox itself
+    private final Object outbox = new Object();
+    private byte[] outboxMessage;
+    // set by the output thread around every write, so the tick task can tell a client that stopped reading
+    private volatile boolean writing;
+    private volatile long writeStartNanos;
+
+    GameSession(long id, Socket socket, DataInputStream in, DataOutputStream out, GameEngine engine,
+                int snapshotInterval, long writeTimeoutNanos, Runnable onClose) {
+        this.id = id;
+        this.socket = socket;
+        this.in = in;
+        this.out = out;
+        this.engine = engine;
+        this.snapshotInterval = snapshotInterval;
+        this.writeTimeoutNanos = writeTimeoutNanos;
+        this.onClose = onClose;
+        this.closed = new AtomicBoolean();
+
+        this.commands = new EnumMap<>(Direction.class);
+        this.commands.put(Direction.LEFT, new MoveLeftCommand(engine));
+        this.commands.put(Direction.RIGHT, new MoveRightCommand(engine));
+        this.commands.put(Direction.UP, new MoveUpCommand(engine));
+        this.commands.put(Direction.DOWN, new MoveDownCommand(engine));
+        engine.registerObserver(gameState ->
+                ended = gameState == GameState.GAME_OVER || gameState == GameState.PLAYER_WIN);
+    }
+
+    long getId() {
+        return id;
+    }
+
+    /**
+     * Starts the game and schedules its ticks
+     *
+     * @param scheduler scheduler shared by the server's sessions
+     */
+    synchronized void start(TickScheduler scheduler) {
+        if (closed.get()) {
+            return;
+        }
+        engine.startGame();
+        this.tickTask = scheduler.register(this::tick);
+    }
+
+    /**
+     * @return how late the session's latest tick started, in nanoseconds
+     */
+    synchronized long getLastTickLatenessNanos() {
+        return tickTask == null ? 0 : tickTask.getLastLatenessNanos();
+    }
+
+    private void tick() {
+        try {
+            if (writing && System.nanoTime() - writeStartNanos > writeTimeoutNanos) {
+                // the client stopped reading
+                close();
+                return;
+            }
+            if (endPublished) {
+                // waiting for the output thread to deliver the final snapshot, which closes the session
+                return;
+            }
+
+            engine.tick();
+            ticks++;
+            if (ended) {
+                publish(GameProtocol.END, engine.snapshot());
+                endPublished = true;
+            } else if (ticks % snapshotInterval == 0) {
+                publish(GameProtocol.SNAPSHOT, engine.snapshot());
+            }
+        } catch (RuntimeException e) {
+            // the scheduler would only cancel the task, so the session is ended explicitly
+            close();
+        }
+    }
+
+    private void publish(int type, GameSnapshot snapshot) {
+        int size = SnapshotCodec.getEncodedSize(snapshot);
+        ByteBuffer message = ByteBuffer.allocate(MESSAGE_HEADER_SIZE + size);
+        message.put((byte) type);
+        message.putInt(size);
+        SnapshotCodec.encode(snapshot, message);
+        synchronized (outbox) {
+            // replaces a snapshot the client has not been sent yet; the end message is never replaced
+            outboxMessage = message.array();
+            outbox.notifyAll();
+        }
+    }
+
+    /**
+     * Writes the published snapshots to the client until the final one has been written or the session ends,
+     * then ends the session. Must be called from a single thread.
+     */
+    void writeOutput() {
+        try {
+            while (true) {
+                byte[] message;
+                synchronized (outbox) {
+                    while (outboxMessage == null && !closed.get()) {
+                        outbox.wait();
+                    }
+                    if (closed.get()) {
+                        return;
+                    }
+                    message = outboxMessage;
+                    outboxMessage = null;
+                }
+
+                writeStartNanos = System.nanoTime();
+                writing = true;
+                out.write(message);
+                out.flush();
+                writing = false;
+                if (message[0] == GameProtocol.END) {
+                    return;
+                }
+            }
+        } catch (IOException e) {
+            // connection failed or was closed by the session
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Reads the client's moves until it quits or disconnects, then ends the session.
+     * Must be called from a single thread.
+     */
+    void readInput() {
+        try {
+            while (!closed.get()) {
+                int type = in.readUnsignedByte();
+                if (type == GameProtocol.QUIT) {
+                    break;
+                }
+                int direction = in.readUnsignedByte();
+                if (type != GameProtocol.MOVE || direction >= DIRECTIONS.length) {
+                    break;
+                }
+                // a client sending faster than the game ticks loses moves, like a player mashing keys
+                engine.getMovementInvoker().addCommand(commands.get(DIRECTIONS[direction]));
+            }
+        } catch (EOFException e) {
+            // client disconnected
+        } catch (IOException e) {
+            // connection failed or was closed by the session
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Stops the game and closes the connection. Can be called from any thread, any number of times.
+     */
+    @Override
+    public void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        synchronized (this) {
+            if (tickTask != null) {
+                tickTask.cancel();
+            }
+        }
+        synchronized (outbox) {
+            outbox.notifyAll();
+        }
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // nothing left to do with the connection
+        }
+        onClose.run();
+    }
+}
@@ -0,0 +1,298 @@
+package pacman.server;
+
+import pacman.model.engine.GameEngine;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Ticks many games at a fixed rate on a fixed set of worker threads, instead of one timer per game.
+ * <p>
+ * Every registered game is assigned to the worker with the fewest games and stays there. Each period a worker
+ * wakes up once and ticks all of its games in turn, so thousands of games cost a handful of threads and wake-ups.
+ * A worker that falls a few periods behind ticks again right away until it has caught up, like
+ * {@link java.util.concurrent.ScheduledExecutorService#scheduleAtFixedRate}. A worker that falls further behind,
+ * e.g. because a task blocked, skips the missed periods, so its games slow down instead of running a burst of
+ * back-to-back ticks. How late each tick started is tracked per game (see {@link Registration}), which shows
+ * when a worker has more games than it can tick in time.
+ * <p>
+ * A worker stopped by an {@link Error} cancels all of its games and gets no new ones, so the remaining workers
+ * keep ticking the games registered afterwards.
+ */
+public final class TickScheduler implements Closeable {
+
+    // most missed periods a worker makes up for with back-to-back ticks
+    static final int MAX_CATCH_UP_PERIODS = 4;
+
+    private final long periodNanos;
+    private final Worker[] workers;
+    private volatile boolean running;
+
+    /**
+     * Starts the worker threads
+     *
+     * @param numWorkers  number of worker threads, e.g. one per core
+     * @param periodNanos time between two ticks of a game
+     */
+    public TickScheduler(int numWorkers, long periodNanos) {
+        if (numWorkers <= 0) {
+            throw new IllegalArgumentException("Number of workers must be positive: " + numWorkers);
+        }
+        if (periodNanos <= 0) {
+            throw new IllegalArgumentException("Tick period must be positive: " + periodNanos);
+        }
+        this.periodNanos = periodNanos;
+        this.running = true;
+        this.workers = new Worker[numWorkers];
+        for (int i = 0; i < numWorkers; i++) {
+            workers[i] = new Worker("tick-worker-" + (i + 1));
+            workers[i].thread.start();
+        }
+    }
+
+    /**
+     * Ticks an engine every period from the next one on
+     *
+     * @param engine engine to tick
+     * @return registration to follow and cancel the ticking
+     */
+    public Registration register(GameEngine engine) {
+        return register(engine::tick);
+    }
+
+    /**
+     * Runs a tick task every period from the next one on, e.g. an engine tick followed by publishing its state.
+     * A task that throws a runtime exception is cancelled. An {@link Error} is not caught and stops the worker,
+     * cancelling all of its tasks.
+     *
+     * @param tick task run once per period, never concurrently with itself
+     * @return registration to follow and cancel the ticking
+     * @throws IllegalStateException if the scheduler is closed or all of its workers have stopped
+     */
+    public Registration register(Runnable tick) {
+        while (true) {
+            if (!running) {
+                throw new IllegalStateException("Scheduler is closed");
+            }
+            Worker worker = null;
+            for (Worker candidate : workers) {
+                if (!candidate.dead && (worker == null
+                        || candidate.numRegistrations.get() < worker.numRegistrations.get())) {
+                    worker = candidate;
+                }
+            }
+            if (worker == null) {
+                throw new IllegalStateException("All tick workers have stopped");
+            }
+            Registration registration = new Registration(tick);
+            worker.numRegistrations.incrementAndGet();
+            worker.added.add(registration);
+            // a worker that stopped meanwhile may never pick the registration up, so it goes to another worker
+            if (!worker.dead) {
+                return registration;
+            }
+        }
+    }
+
+    /**
+     * @return number of tick tasks that have not been cancelled
+     */
+    public int getNumRegistrations() {
+        int count = 0;
+        for (Worker worker : workers) {
+            if (!worker.dead) {
+                count += worker.numRegistrations.get();
+            }
+        }
+        return count;
+    }
+
+    public long getPeriodNanos() {
+        return periodNanos;
+    }
+
+    /**
+     * Stops the workers after their current period and waits for them to finish
+     */
+    @Override
+    public void close() {
+        running = false;
+        for (Worker worker : workers) {
+            LockSupport.unpark(worker.thread);
+        }
+        for (Worker worker : workers) {
+            if (worker.thread == Thread.currentThread()) {
+                continue;
+            }
+            try {
+                worker.thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * A tick task of the scheduler. The statistics are updated by the worker and can be read from any thread.
+     */
+    public static final class Registration {
+        private final Runnable tick;
+        private volatile boolean cancelled;
+        private volatile long ticks;
+        private volatile long lastLatenessNanos;
+        private volatile long maxLatenessNanos;
+        private volatile long totalLatenessNanos;
+        private volatile Throwable failure;
+
+        private Registration(Runnable tick) {
+            this.tick = tick;
+        }
+
+        /**
+         * Stops the ticking; a tick in progress finishes. Can be called from any thread, including the tick.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        /**
+         * @return number of ticks run
+         */
+        public long getTicks() {
+            return ticks;
+        }
+
+        /**
+         * @return how long after its scheduled time the last tick started, in nanoseconds
+         */
+        public long getLastLatenessNanos() {
+            return lastLatenessNanos;
+        }
+
+        /**
+         * @return largest lateness of any tick so far, in nanoseconds
+         */
+        public long getMaxLatenessNanos() {
+            return maxLatenessNanos;
+        }
+
+        /**
+         * @return mean lateness of the ticks so far, in nanoseconds
+         */
+        public double getMeanLatenessNanos() {
+            long numTicks = ticks;
+            return numTicks == 0 ? 0 : (double) totalLatenessNanos / numTicks;
+        }
+
+        /**
+         * @return exception or error thrown by the tick that cancelled the task, or null
+         */
+        public Throwable getFailure() {
+            return failure;
+        }
+
+        // only called by the owning worker, so the read-modify-writes below do not race
+        private void run(long deadline) {
+            long lateness = Math.max(0, System.nanoTime() - deadline);
+            lastLatenessNanos = lateness;
+            if (lateness > maxLatenessNanos) {
+                maxLatenessNanos = lateness;
+            }
+            totalLatenessNanos += lateness;
+            try {
+                tick.run();
+            } catch (RuntimeException e) {
+                failure = e;
+                cancelled = true;
+            } catch (Error e) {
+                failure = e;
+                cancelled = true;
+                throw e;
+            } finally {
+                ticks++;
+            }
+        }
+    }
+
+    private final class Worker implements Runnable {
+        private final Thread thread;
+        // registrations handed over by other threads; the worker moves them into its own list between periods
+        private final Queue<Registration> added = new ConcurrentLinkedQueue<>();
+        private final List<Registration> registrations = new ArrayList<>();
+        private final AtomicInteger numRegistrations = new AtomicInteger();
+        // set once the worker was stopped by an error; its registrations are cancelled and no new ones are added
+        private volatile boolean dead;
+
+        private Worker(String name) {
+            this.thread = new Thread(this, name);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            try {
+                tickUntilClosed();
+            } catch (Error e) {
+                dead = true;
+                for (Registration registration : registrations) {
+                    registration.cancelled = true;
+                }
+                Registration registration;
+                while ((registration = added.poll()) != null) {
+                    registration.cancelled = true;
+                }
+                throw e;
+            }
+        }
+
+        private void tickUntilClosed() {
+            long deadline = System.nanoTime() + periodNanos;
+            while (running) {
+                long wait;
+                while (running && (wait = deadline - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                if (!running) {
+                    return;
+                }
+
+                Registration registration;
+                while ((registration = added.poll()) != null) {
+                    registrations.add(registration);
+                }
+
+                // tick every live registration and drop cancelled ones in the same pass
+                int numLive = 0;
+                for (int i = 0; i < registrations.size(); i++) {
+                    registration = registrations.get(i);
+                    if (!registration.cancelled) {
+                        registration.run(deadline);
+                    }
+                    if (registration.cancelled) {
+                        numRegistrations.decrementAndGet();
+                    } else {
+                        registrations.set(numLive++, registration);
+                    }
+                }
+                registrations.subList(numLive, registrations.size()).clear();
+
+                deadline += periodNanos;
+                long behind = System.nanoTime() - deadline;
+                if (behind > MAX_CATCH_UP_PERIODS * periodNanos) {
+                    // skip the missed periods but keep the phase, so the next tick is the only one due now
+                    deadline += behind / periodNanos * periodNanos;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package pacman.simulation;
+
+import pacman.model.engine.observer.GameState;
+
+import java.util.List;
+
+/**
+ * Aggregated statistics of a batch of headless simulation runs
+ */
+public class BatchSimulationResult {
+
+    private final List<SimulationResult> results;
+    private final long elapsedNanos;
+
+    public BatchSimulationResult(List<SimulationResult> results, long elapsedNanos) {
+        this.results = List.copyOf(results);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return results of the individual games, in the order the games were numbered
+     */
+    public List<SimulationResult> getResults() {
+        return results;
+    }
+
+    /**
+     * @return number of games the player won
+     */
+    public long getNumWins() {
+        return results.stream().filter(result -> result.getGameState() == GameState.PLAYER_WIN).count();
+    }
+
+    /**
+     * @return average total score per game
+     */
+    public double getAverageScore() {
+        return results.stream().mapToInt(SimulationResult::getScore).average().orElse(0);
+    }
+
+    /**
+     * @return average number of lives left at the end of a game
+     */
+    public double getAverageNumLives() {
+        return results.stream().mapToInt(SimulationResult::getNumLives).average().orElse(0);
+    }
+
+    /**
+     * @return average number of levels cleared per game
+     */
+    public double getAverageLevelsCleared() {
+        return results.stream().mapToInt(SimulationResult::getLevelsCleared).average().orElse(0);
+    }
+
+    /**
+     * @return average number of ticks the won games took to clear every level, or NaN if no game was won
+     */
+    public double getAverageTicksToClear() {
+        return results.stream()
+                .filter(result -> result.getGameState() == GameState.PLAYER_WIN)
+                .mapToLong(SimulationResult::getTicks)
+                .average()
+                .orElse(Double.NaN);
+    }
+
+    /**
+     * @return wall-clock time the whole batch took, in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "games=" + results.size() +
+                ", wins=" + getNumWins() +
+                ", averageScore=" + getAverageScore() +
+                ", averageNumLives=" + getAverageNumLives() +
+                ", averageLevelsCleared=" + getAverageLevelsCleared() +
+                ", averageTicksToClear=" + getAverageTicksToClear() +
+                ", elapsedMs=" + elapsedNanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,158 @@
+package pacman.simulation;
+
+import pacman.ConfigurationParseException;
+import pacman.model.engine.GameEngineImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.SplittableRandom;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+/**
+ * Plays many independent headless games in parallel and aggregates their statistics.
+ * <p>
+ * Every game gets its own engine, maze and level, so games share no mutable state and can be ticked on
+ * separate threads of a {@link ForkJoinPool}. Given a batch seed, each game is seeded from its own split of the
+ * batch's random number generator, so a batch is reproducible regardless of how its games are scheduled.
+ */
+public class BatchSimulationRunner {
+
+    private final String configPath;
+    private final int numGames;
+    private final long maxTicks;
+    private final int parallelism;
+    private final IntFunction<InputPolicy> inputPolicies;
+    private final OptionalLong seed;
+
+    /**
+     * Creates a batch whose games are seeded from the config
+     *
+     * @param configPath    config every game is created from
+     * @param numGames      number of games to play
+     * @param maxTicks      maximum number of ticks to run each game for
+     * @param parallelism   number of worker threads
+     * @param inputPolicies creates the input policy of a game, given the game's number (0 to numGames - 1)
+     */
+    public BatchSimulationRunner(String configPath, int numGames, long maxTicks, int parallelism,
+                                 IntFunction<InputPolicy> inputPolicies) {
+        this(configPath, numGames, maxTicks, parallelism, inputPolicies, OptionalLong.empty());
+    }
+
+    /**
+     * Creates a batch whose games are seeded from the given batch seed
+     *
+     * @param configPath    config every game is created from
+     * @param numGames      number of games to play
+     * @param maxTicks      maximum number of ticks to run each game for
+     * @param parallelism   number of worker threads
+     * @param inputPolicies creates the input policy of a game, given the game's number (0 to numGames - 1)
+     * @param seed          seed the games' seeds are derived from
+     */
+    public BatchSimulationRunner(String configPath, int numGames, long maxTicks, int parallelism,
+                                 IntFunction<InputPolicy> inputPolicies, long seed) {
+        this(configPath, numGames, maxTicks, parallelism, inputPolicies, OptionalLong.of(seed));
+    }
+
+    private BatchSimulationRunner(String configPath, int numGames, long maxTicks, int parallelism,
+                                  IntFunction<InputPolicy> inputPolicies, OptionalLong seed) {
+        if (numGames < 0) {
+            throw new IllegalArgumentException("Number of games must not be negative: " + numGames);
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive: " + parallelism);
+        }
+        this.configPath = configPath;
+        this.numGames = numGames;
+        this.maxTicks = maxTicks;
+        this.parallelism = parallelism;
+        this.inputPolicies = inputPolicies;
+        this.seed = seed;
+    }
+
+    /**
+     * Plays every game of the batch, blocking until all of them have finished
+     *
+     * @return statistics of the batch
+     */
+    public BatchSimulationResult run() {
+        List<Callable<SimulationResult>> games = new ArrayList<>(numGames);
+        // game seeds are drawn here, in game order, so they do not depend on which thread runs which game
+        SplittableRandom seeds = seed.isPresent() ? new SplittableRandom(seed.getAsLong()) : null;
+        for (int game = 0; game < numGames; game++) {
+            int gameNo = game;
+            if (seeds != null) {
+                long gameSeed = seeds.split().nextLong();
+                games.add(() -> new SimulationRunner(new GameEngineImpl(configPath, gameSeed), maxTicks,
+                        inputPolicies.apply(gameNo)).run());
+            } else {
+                games.add(() -> new SimulationRunner(new GameEngineImpl(configPath), maxTicks,
+                        inputPolicies.apply(gameNo)).run());
+            }
+        }
+
+        long startTime = System.nanoTime();
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<SimulationResult> results = new ArrayList<>(numGames);
+            for (Future<SimulationResult> future : pool.invokeAll(games)) {
+                results.add(getResult(future));
+            }
+            return new BatchSimulationResult(results, System.nanoTime() - startTime);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static SimulationResult getResult(Future<SimulationResult> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a simulation", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        }
+    }
+
+    /**
+     * Runs a batch of headless simulations and prints the aggregated statistics.
+     * <p>
+     * Accepts {@code --config=<path>}, {@code --games=<n>} (default 100), {@code --maxTicks=<n>},
+     * {@code --threads=<n>} (default: one per core) and the input policy options of {@link SimulationRunner}.
+     * Random policies are seeded with {@code seed + game number}, and with {@code --seed} every game's engine is
+     * seeded from a split of the batch seed.
+     */
+    public static void main(String[] args) {
+        try {
+            Map<String, String> options = SimulationRunner.parseOptions(args);
+            String configPath = options.getOrDefault("config", "/config.json");
+            int numGames = Integer.parseInt(options.getOrDefault("games", "100"));
+            long maxTicks = Long.parseLong(options.getOrDefault("maxTicks",
+                    String.valueOf(SimulationRunner.DEFAULT_MAX_TICKS)));
+            int threads = Integer.parseInt(options.getOrDefault("threads",
+                    String.valueOf(Runtime.getRuntime().availableProcessors())));
+
+            // fail on bad policy options before starting any game
+            SimulationRunner.createInputPolicy(options, 0);
+
+            IntFunction<InputPolicy> inputPolicies = game -> SimulationRunner.createInputPolicy(options, game);
+            BatchSimulationRunner runner = options.containsKey("seed")
+                    ? new BatchSimulationRunner(configPath, numGames, maxTicks, threads, inputPolicies,
+                    Long.parseLong(options.get("seed")))
+                    : new BatchSimulationRunner(configPath, numGames, maxTicks, threads, inputPolicies);
+            System.out.println(runner.run());
+        } catch (ConfigurationParseException | IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+}
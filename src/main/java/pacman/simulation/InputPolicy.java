@@ -0,0 +1,38 @@
+package pacman.simulation;
+
+import pacman.model.entity.dynamic.physics.Direction;
+
+import java.util.function.Consumer;
+
+/**
+ * Decides the player's moves during a headless simulation
+ */
+public interface InputPolicy {
+
+    /**
+     * Policy that never gives any input
+     */
+    InputPolicy NONE = tick -> null;
+
+    /**
+     * Gets the move the player makes before the given tick
+     *
+     * @param tick number of ticks run so far
+     * @return direction to move in, or null to give no input this tick
+     */
+    Direction getMove(long tick);
+
+    /**
+     * Gives every move the player makes before the given tick. Policies that can make several moves in one tick
+     * override this; by default it gives the move from {@link #getMove(long)}, if any.
+     *
+     * @param tick  number of ticks run so far
+     * @param moves receives the moves, in order
+     */
+    default void getMoves(long tick, Consumer<Direction> moves) {
+        Direction move = getMove(tick);
+        if (move != null) {
+            moves.accept(move);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package pacman.simulation;
+
+import pacman.model.entity.dynamic.physics.Direction;
+
+import java.util.Random;
+
+/**
+ * Input policy that presses a random direction at a fixed interval.
+ * Policies created with the same seed make the same moves.
+ */
+public class RandomInputPolicy implements InputPolicy {
+
+    private static final Direction[] DIRECTIONS = Direction.values();
+
+    private final Random random;
+    private final int ticksPerMove;
+
+    /**
+     * @param seed         seed of the random moves
+     * @param ticksPerMove number of ticks between moves
+     */
+    public RandomInputPolicy(long seed, int ticksPerMove) {
+        if (ticksPerMove <= 0) {
+            throw new IllegalArgumentException("Ticks per move must be positive: " + ticksPerMove);
+        }
+        this.random = new Random(seed);
+        this.ticksPerMove = ticksPerMove;
+    }
+
+    @Override
+    public Direction getMove(long tick) {
+        if (tick % ticksPerMove != 0) {
+            return null;
+        }
+        return DIRECTIONS[random.nextInt(DIRECTIONS.length)];
+    }
+}
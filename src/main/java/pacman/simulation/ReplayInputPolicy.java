@@ -0,0 +1,42 @@
+package pacman.simulation;
+
+import pacman.model.engine.replay.Replay;
+import pacman.model.entity.dynamic.physics.Direction;
+
+import java.util.function.Consumer;
+
+/**
+ * Input policy that gives the moves of a recorded game on the ticks they were originally made.
+ * Ticks must be asked for in increasing order, as the runner does.
+ */
+public class ReplayInputPolicy implements InputPolicy {
+
+    private final Replay replay;
+    // index of the next move to give
+    private int nextMove;
+
+    public ReplayInputPolicy(Replay replay) {
+        this.replay = replay;
+    }
+
+    /**
+     * Gets the last move recorded for the tick. Use {@link #getMoves(long, Consumer)} to replay a tick exactly
+     * when several moves were made in it.
+     */
+    @Override
+    public Direction getMove(long tick) {
+        Direction[] lastMove = new Direction[1];
+        getMoves(tick, move -> lastMove[0] = move);
+        return lastMove[0];
+    }
+
+    @Override
+    public void getMoves(long tick, Consumer<Direction> moves) {
+        while (nextMove < replay.getNumMoves() && replay.getTick(nextMove) <= tick) {
+            if (replay.getTick(nextMove) == tick) {
+                moves.accept(replay.getMove(nextMove));
+            }
+            nextMove++;
+        }
+    }
+}
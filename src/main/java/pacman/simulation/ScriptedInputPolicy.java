@@ -0,0 +1,44 @@
+package pacman.simulation;
+
+import pacman.model.entity.dynamic.physics.Direction;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Input policy that replays a fixed list of moves, each given at a specific tick
+ */
+public class ScriptedInputPolicy implements InputPolicy {
+
+    private final Map<Long, Direction> moves;
+
+    /**
+     * @param moves direction to move in, keyed by the tick it is given before
+     */
+    public ScriptedInputPolicy(Map<Long, Direction> moves) {
+        this.moves = new HashMap<>(moves);
+    }
+
+    /**
+     * Parses a script of comma separated {@code tick:direction} entries, e.g. {@code 0:LEFT,40:UP}
+     *
+     * @param script moves to make
+     * @return policy making the scripted moves
+     */
+    public static ScriptedInputPolicy parse(String script) {
+        Map<Long, Direction> moves = new HashMap<>();
+        for (String entry : script.split(",")) {
+            String[] parts = entry.trim().split(":");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Expected tick:direction but got: " + entry);
+            }
+            moves.put(Long.parseLong(parts[0].trim()), Direction.valueOf(parts[1].trim().toUpperCase()));
+        }
+        return new ScriptedInputPolicy(moves);
+    }
+
+    @Override
+    public Direction getMove(long tick) {
+        return moves.get(tick);
+    }
+}
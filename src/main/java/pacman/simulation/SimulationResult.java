@@ -0,0 +1,95 @@
+package pacman.simulation;
+
+import pacman.model.engine.observer.GameState;
+
+/**
+ * End-of-game statistics of a headless simulation run
+ */
+public class SimulationResult {
+
+    private final GameState gameState;
+    private final long ticks;
+    private final int score;
+    private final int numLives;
+    private final int levelsCleared;
+    private final long elapsedNanos;
+    private final long seed;
+
+    public SimulationResult(GameState gameState, long ticks, int score, int numLives, int levelsCleared, long elapsedNanos,
+                            long seed) {
+        this.gameState = gameState;
+        this.ticks = ticks;
+        this.score = score;
+        this.numLives = numLives;
+        this.levelsCleared = levelsCleared;
+        this.elapsedNanos = elapsedNanos;
+        this.seed = seed;
+    }
+
+    /**
+     * @return state the game ended in, or IN_PROGRESS if the tick budget ran out first
+     */
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    /**
+     * @return true, if the game was won or lost within the tick budget
+     */
+    public boolean isFinished() {
+        return gameState == GameState.GAME_OVER || gameState == GameState.PLAYER_WIN;
+    }
+
+    /**
+     * @return number of ticks the simulation ran for
+     */
+    public long getTicks() {
+        return ticks;
+    }
+
+    /**
+     * @return total points scored over all levels
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * @return lives the player had left at the end of the simulation
+     */
+    public int getNumLives() {
+        return numLives;
+    }
+
+    /**
+     * @return number of levels the player cleared
+     */
+    public int getLevelsCleared() {
+        return levelsCleared;
+    }
+
+    /**
+     * @return wall-clock time the simulation took, in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * @return seed of the simulated game, to play it again
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    @Override
+    public String toString() {
+        return "gameState=" + gameState +
+                ", ticks=" + ticks +
+                ", score=" + score +
+                ", numLives=" + numLives +
+                ", levelsCleared=" + levelsCleared +
+                ", elapsedMs=" + elapsedNanos / 1_000_000.0 +
+                ", seed=" + seed;
+    }
+}
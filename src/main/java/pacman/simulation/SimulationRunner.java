@@ -0,0 +1,213 @@
+package pacman.simulation;
+
+import pacman.ConfigurationParseException;
+import pacman.model.engine.GameEngine;
+import pacman.model.engine.GameEngineImpl;
+import pacman.model.engine.observer.GameState;
+import pacman.model.engine.replay.Replay;
+import pacman.model.entity.dynamic.physics.Direction;
+import pacman.model.entity.dynamic.player.command.*;
+import pacman.model.level.observer.LevelStateObserver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Plays a game out headless, ticking the model in a tight loop with no rendering or frame pacing.
+ * <p>
+ * The run ends when the game is won or lost, or when the tick budget is used up. A runner drives a single game;
+ * create a new engine and runner for every simulation.
+ */
+public class SimulationRunner implements LevelStateObserver {
+
+    public static final long DEFAULT_MAX_TICKS = 1_000_000;
+
+    private final GameEngine engine;
+    private final long maxTicks;
+    private final InputPolicy inputPolicy;
+    private final Map<Direction, MoveCommand> commands;
+    private final Consumer<Direction> addMove;
+    private GameState gameState;
+    private int score;
+    private int numLives;
+    private int levelsStarted;
+
+    /**
+     * @param engine   engine of a game that has not been started yet
+     * @param maxTicks maximum number of ticks to run
+     */
+    public SimulationRunner(GameEngine engine, long maxTicks) {
+        this(engine, maxTicks, InputPolicy.NONE);
+    }
+
+    /**
+     * @param engine      engine of a game that has not been started yet
+     * @param maxTicks    maximum number of ticks to run
+     * @param inputPolicy policy deciding the player's moves
+     */
+    public SimulationRunner(GameEngine engine, long maxTicks, InputPolicy inputPolicy) {
+        if (maxTicks < 0) {
+            throw new IllegalArgumentException("Tick budget must not be negative: " + maxTicks);
+        }
+        this.engine = engine;
+        this.maxTicks = maxTicks;
+        this.inputPolicy = inputPolicy;
+
+        this.commands = new EnumMap<>(Direction.class);
+        this.commands.put(Direction.LEFT, new MoveLeftCommand(engine));
+        this.commands.put(Direction.RIGHT, new MoveRightCommand(engine));
+        this.commands.put(Direction.UP, new MoveUpCommand(engine));
+        this.commands.put(Direction.DOWN, new MoveDownCommand(engine));
+        this.addMove = move -> engine.getMovementInvoker().addCommand(commands.get(move));
+    }
+
+    /**
+     * Starts the game and ticks it until it ends or the tick budget runs out
+     *
+     * @return statistics of the run
+     */
+    public SimulationResult run() {
+        engine.registerObserver(this::updateEngineState);
+        engine.registerLevelStateObserver(this);
+
+        long startTime = System.nanoTime();
+        engine.startGame();
+
+        long ticks = 0;
+        while (!isGameEnded() && ticks < maxTicks) {
+            inputPolicy.getMoves(ticks, addMove);
+            engine.tick();
+            ticks++;
+        }
+
+        long elapsedNanos = System.nanoTime() - startTime;
+        GameState finalState = isGameEnded() ? gameState : GameState.IN_PROGRESS;
+        int levelsCleared = Math.max(0, levelsStarted - 1) + (gameState == GameState.PLAYER_WIN ? 1 : 0);
+        return new SimulationResult(finalState, ticks, score, numLives, levelsCleared, elapsedNanos, engine.getSeed());
+    }
+
+    private boolean isGameEnded() {
+        return gameState == GameState.GAME_OVER || gameState == GameState.PLAYER_WIN;
+    }
+
+    private void updateEngineState(GameState gameState) {
+        // the engine reports READY once at the start of every level
+        if (gameState == GameState.READY) {
+            levelsStarted++;
+        }
+        this.gameState = gameState;
+    }
+
+    @Override
+    public void updateGameState(GameState gameState) {
+        // the level's own READY / IN_PROGRESS phases are not needed for the statistics
+    }
+
+    @Override
+    public void updateNumLives(int numLives) {
+        this.numLives = numLives;
+    }
+
+    @Override
+    public void updateScore(int scoreChange) {
+        this.score += scoreChange;
+    }
+
+    /**
+     * Runs a single headless simulation and prints its statistics.
+     * <p>
+     * Accepts {@code --config=<path>} (default {@code /config.json}), {@code --maxTicks=<n>}, {@code --seed=<n>}
+     * (seeds the game, overriding the config's seed, and the random input policy) and the input policy options
+     * described in {@link #createInputPolicy(Map, long)}.
+     * <p>
+     * {@code --record=<file>} writes a replay of the run. {@code --replay=<file>} plays a recorded game again instead,
+     * taking the config, seed and moves from the replay and, unless {@code --maxTicks} is given, running for as many
+     * ticks as the recorded game.
+     */
+    public static void main(String[] args) {
+        try {
+            Map<String, String> options = parseOptions(args);
+            GameEngine engine;
+            InputPolicy inputPolicy;
+            long maxTicks = Long.parseLong(options.getOrDefault("maxTicks", String.valueOf(DEFAULT_MAX_TICKS)));
+            if (options.containsKey("replay")) {
+                Replay replay = readReplay(Paths.get(options.get("replay")));
+                engine = new GameEngineImpl(replay.getConfigPath(), replay.getSeed());
+                inputPolicy = new ReplayInputPolicy(replay);
+                if (!options.containsKey("maxTicks") && replay.getEndTick() >= 0) {
+                    maxTicks = replay.getEndTick();
+                }
+            } else {
+                String configPath = options.getOrDefault("config", "/config.json");
+                engine = options.containsKey("seed")
+                        ? new GameEngineImpl(configPath, Long.parseLong(options.get("seed")))
+                        : new GameEngineImpl(configPath);
+                inputPolicy = createInputPolicy(options, 0);
+            }
+
+            if (options.containsKey("record")) {
+                engine.startRecording(Files.newOutputStream(Paths.get(options.get("record"))));
+            }
+            SimulationResult result = new SimulationRunner(engine, maxTicks, inputPolicy).run();
+            engine.stopRecording();
+            System.out.println(result);
+        } catch (ConfigurationParseException | IllegalArgumentException | IOException | UncheckedIOException e) {
+            System.err.println(e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static Replay readReplay(Path path) throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return Replay.read(in);
+        }
+    }
+
+    /**
+     * Creates an input policy from the {@code --policy} option: {@code none} (default), {@code random} (a random
+     * direction every {@code --ticksPerMove} ticks, seeded by {@code --seed}) or {@code scripted} (the moves in
+     * {@code --moves}, see {@link ScriptedInputPolicy#parse(String)}).
+     *
+     * @param options    named command line options
+     * @param seedOffset added to the seed, so games in a batch get different random moves
+     * @return the input policy
+     */
+    static InputPolicy createInputPolicy(Map<String, String> options, long seedOffset) {
+        String policy = options.getOrDefault("policy", "none");
+        return switch (policy) {
+            case "none" -> InputPolicy.NONE;
+            case "random" -> new RandomInputPolicy(
+                    Long.parseLong(options.getOrDefault("seed", "0")) + seedOffset,
+                    Integer.parseInt(options.getOrDefault("ticksPerMove", "30")));
+            case "scripted" -> ScriptedInputPolicy.parse(options.getOrDefault("moves", ""));
+            default -> throw new IllegalArgumentException("Unknown input policy: " + policy);
+        };
+    }
+
+    /**
+     * Parses command line options of the form {@code --name=value}
+     *
+     * @param args command line arguments
+     * @return option values by name
+     * @throws IllegalArgumentException if an argument is not of that form
+     */
+    public static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
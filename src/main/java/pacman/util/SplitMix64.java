@@ -0,0 +1,96 @@
+package pacman.util;
+
+/**
+ * SplitMix64 pseudo-random number generator whose whole state is one {@code long} that can be read and restored.
+ * <p>
+ * For the same seed it produces the same {@code nextLong}, {@code nextInt} and bounded {@code nextInt} values as
+ * {@link java.util.SplittableRandom}, so games seeded before the switch still play out identically. Unlike
+ * {@code SplittableRandom}, a game snapshot can capture and rewind it. Not thread-safe.
+ */
+public final class SplitMix64 {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private long state;
+
+    /**
+     * @param seed initial state of the generator
+     */
+    public SplitMix64(long seed) {
+        this.state = seed;
+    }
+
+    /**
+     * @return current state; a generator set to it continues with the same values as this one
+     */
+    public long getState() {
+        return state;
+    }
+
+    /**
+     * @param state state previously returned by {@link #getState()}
+     */
+    public void setState(long state) {
+        this.state = state;
+    }
+
+    public long nextLong() {
+        long z = (state += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    public int nextInt() {
+        long z = (state += GOLDEN_GAMMA);
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    /**
+     * @param bound exclusive upper bound, positive
+     * @return uniformly distributed value between 0 (inclusive) and bound (exclusive)
+     */
+    public int nextInt(int bound) {
+        if (bound <= 0) {
+            throw new IllegalArgumentException("Bound must be positive: " + bound);
+        }
+        int r = nextInt();
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+        // reject values from the incomplete last interval so every result is equally likely
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = nextInt() >>> 1) {
+            // retry
+        }
+        return r;
+    }
+
+    /**
+     * @param origin inclusive lower bound
+     * @param bound  exclusive upper bound, greater than origin
+     * @return uniformly distributed value between origin (inclusive) and bound (exclusive)
+     */
+    public int nextInt(int origin, int bound) {
+        if (origin >= bound) {
+            throw new IllegalArgumentException("Bound must be greater than origin: " + origin + " >= " + bound);
+        }
+        int r = nextInt();
+        int n = bound - origin;
+        int m = n - 1;
+        if ((n & m) == 0) {
+            return (r & m) + origin;
+        } else if (n > 0) {
+            for (int u = r >>> 1; u + m - (r = u % n) < 0; u = nextInt() >>> 1) {
+                // retry
+            }
+            return r + origin;
+        }
+        // the range does not fit in an int, so draw until the value falls inside it
+        while (r < origin || r >= bound) {
+            r = nextInt();
+        }
+        return r;
+    }
+}
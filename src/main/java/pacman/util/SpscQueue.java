@@ -0,0 +1,91 @@
+package pacman.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, lock-free queue for exactly one producer thread and one consumer thread.
+ * <p>
+ * Elements live in a ring buffer. The producer publishes an element by advancing the tail index and the consumer
+ * frees its slot by advancing the head index; each index is only written by one side, so neither side blocks.
+ *
+ * @param <E> type of the queued elements
+ */
+public final class SpscQueue<E> {
+
+    private final Object[] buffer;
+    private final int mask;
+    // index of the next element to poll, only written by the consumer
+    private final AtomicLong head = new AtomicLong();
+    // index of the next free slot, only written by the producer
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * @param capacity maximum number of queued elements, rounded up to a power of two
+     */
+    public SpscQueue(int capacity) {
+        if (capacity <= 0 || capacity > (1 << 30)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30: " + capacity);
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size <<= 1;
+        }
+        this.buffer = new Object[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Adds an element to the back of the queue. Must only be called from the producer thread.
+     *
+     * @param element element to add, not null
+     * @return true, if the element was added; false if the queue was full
+     */
+    public boolean offer(E element) {
+        if (element == null) {
+            throw new NullPointerException("Queued element must not be null");
+        }
+
+        long currentTail = tail.get();
+        if (currentTail - head.get() == buffer.length) {
+            return false;
+        }
+
+        buffer[(int) currentTail & mask] = element;
+        // release the slot to the consumer only after the element has been written
+        tail.lazySet(currentTail + 1);
+        return true;
+    }
+
+    /**
+     * Removes the element at the front of the queue. Must only be called from the consumer thread.
+     *
+     * @return the removed element, or null if the queue was empty
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long currentHead = head.get();
+        if (currentHead == tail.get()) {
+            return null;
+        }
+
+        int index = (int) currentHead & mask;
+        E element = (E) buffer[index];
+        buffer[index] = null;
+        head.lazySet(currentHead + 1);
+        return element;
+    }
+
+    /**
+     * @return true, if there are no elements to poll
+     */
+    public boolean isEmpty() {
+        return head.get() == tail.get();
+    }
+
+    /**
+     * @return maximum number of queued elements
+     */
+    public int getCapacity() {
+        return buffer.length;
+    }
+}
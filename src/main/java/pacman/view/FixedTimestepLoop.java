@@ -0,0 +1,71 @@
+package pacman.view;
+
+import javafx.animation.AnimationTimer;
+
+import java.util.function.DoubleConsumer;
+
+/**
+ * Game loop that advances the model at a fixed tick rate, independently of the display's frame rate.
+ * <p>
+ * Every frame, the elapsed time is added to an accumulator and as many fixed-length ticks as fit are run.
+ * The frame is then rendered with the fraction of a tick left in the accumulator, which the renderer can use to
+ * interpolate between the last two ticks.
+ */
+public class FixedTimestepLoop extends AnimationTimer {
+
+    // ticks run in a single frame are capped, so a long stall does not make the model fast-forward
+    private static final int MAX_TICKS_PER_FRAME = 5;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final long tickLength;
+    private final Runnable tick;
+    private final DoubleConsumer render;
+    private long lastFrameTime;
+    private long accumulator;
+
+    /**
+     * @param tickRate number of model ticks per second
+     * @param tick     advances the model by one tick
+     * @param render   renders a frame, given the fraction of the next tick that has elapsed (0 to 1)
+     */
+    public FixedTimestepLoop(double tickRate, Runnable tick, DoubleConsumer render) {
+        if (!(tickRate > 0)) {
+            throw new IllegalArgumentException("Tick rate must be positive: " + tickRate);
+        }
+        this.tickLength = Math.round(NANOS_PER_SECOND / tickRate);
+        this.tick = tick;
+        this.render = render;
+        this.lastFrameTime = -1;
+    }
+
+    @Override
+    public void handle(long now) {
+        if (lastFrameTime < 0) {
+            lastFrameTime = now;
+        }
+
+        accumulator += now - lastFrameTime;
+        lastFrameTime = now;
+
+        int ticks = 0;
+        while (accumulator >= tickLength && ticks < MAX_TICKS_PER_FRAME) {
+            tick.run();
+            accumulator -= tickLength;
+            ticks++;
+        }
+
+        if (accumulator >= tickLength) {
+            // fell too far behind; drop the backlog rather than trying to catch up
+            accumulator = 0;
+        }
+
+        render.accept((double) accumulator / tickLength);
+    }
+
+    @Override
+    public void stop() {
+        super.stop();
+        lastFrameTime = -1;
+        accumulator = 0;
+    }
+}
@@ -1,39 +1,71 @@
 package pacman.view;
 
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.scene.Scene;
 import javafx.scene.layout.Pane;
-import javafx.util.Duration;
 import pacman.model.engine.GameEngine;
 import pacman.model.entity.Renderable;
+import pacman.model.entity.staticentity.StaticEntity;
+import pacman.model.level.observer.RenderableObserver;
+import pacman.model.maze.MazeCreator;
 import pacman.view.background.BackgroundDrawer;
 import pacman.view.background.StandardBackgroundDrawer;
 import pacman.view.display.DisplayManager;
 import pacman.view.entity.EntityView;
 import pacman.view.entity.EntityViewImpl;
+import pacman.view.entity.StaticLayerCanvas;
 import pacman.view.keyboard.KeyboardInputHandler;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Responsible for managing the Pac-Man Game View
  */
-public class GameWindow {
+public class GameWindow implements RenderableObserver {
+
+    /**
+     * Default number of model ticks per second (one tick every 34ms)
+     */
+    public static final double DEFAULT_TICK_RATE = 1000.0 / 34;
 
     private final Scene scene;
     private final Pane pane;
     private final GameEngine model;
-    private final List<EntityView> entityViews;
+    // views are looked up by entity identity; only the views of changed entities are touched each tick
+    private final Map<Renderable, EntityView> entityViews;
+    private final double tickRate;
+    private final boolean interpolate;
+    // draws walls and pellets when the canvas renderer is used, null otherwise
+    private final StaticLayerCanvas staticLayer;
+    private Set<EntityView> changedViews;
+    private Set<EntityView> movingViews;
 
     public GameWindow(GameEngine model, int width, int height) {
+        this(model, width, height, DEFAULT_TICK_RATE, false, false);
+    }
+
+    /**
+     * @param model       game engine to display
+     * @param width       width of the window
+     * @param height      height of the window
+     * @param tickRate    number of model ticks per second, independent of the display's frame rate
+     * @param interpolate whether entity positions are interpolated between ticks when rendering
+     * @param useCanvas   whether static entities are drawn into one canvas instead of a node each
+     */
+    public GameWindow(GameEngine model, int width, int height, double tickRate, boolean interpolate,
+                      boolean useCanvas) {
         this.model = model;
+        this.tickRate = tickRate;
+        this.interpolate = interpolate;
 
         pane = new Pane();
         scene = new Scene(pane, width, height);
 
-        entityViews = new ArrayList<>();
+        entityViews = new IdentityHashMap<>();
+        changedViews = Collections.newSetFromMap(new IdentityHashMap<>());
+        movingViews = Collections.newSetFromMap(new IdentityHashMap<>());
 
         KeyboardInputHandler keyboardInputHandler = new KeyboardInputHandler(model);
 
@@ -46,6 +78,15 @@ public class GameWindow {
 
         BackgroundDrawer backgroundDrawer = new StandardBackgroundDrawer();
         backgroundDrawer.draw(model, pane);
+
+        if (useCanvas) {
+            staticLayer = new StaticLayerCanvas(width, height, MazeCreator.RESIZING_FACTOR);
+            pane.getChildren().add(staticLayer.getNode());
+        } else {
+            staticLayer = null;
+        }
+
+        model.registerRenderableObserver(this);
     }
 
     public Scene getScene() {
@@ -53,47 +94,87 @@ public class GameWindow {
     }
 
     public void run() {
-        Timeline timeline = new Timeline(new KeyFrame(Duration.millis(34),
-                t -> this.draw()));
-
-        timeline.setCycleCount(Timeline.INDEFINITE);
-        timeline.play();
+        FixedTimestepLoop loop = new FixedTimestepLoop(tickRate, this::tick, this::render);
+        loop.start();
 
         model.startGame();
     }
 
-    private void draw() {
+    private void render(double interpolation) {
+        double fraction = interpolate ? interpolation : 1;
+        for (EntityView entityView : movingViews) {
+            entityView.render(fraction);
+        }
+    }
 
+    private void tick() {
         model.tick();
 
-        List<Renderable> entities = model.getRenderables();
+        // views that moved last tick but not this one are settled at their latest position
+        for (EntityView entityView : movingViews) {
+            if (!changedViews.contains(entityView)) {
+                entityView.update();
+                entityView.render(1);
+            }
+        }
 
-        for (EntityView entityView : entityViews) {
-            entityView.markForDelete();
+        for (EntityView entityView : changedViews) {
+            entityView.update();
         }
 
-        for (Renderable entity : entities) {
-            boolean notFound = true;
-            for (EntityView view : entityViews) {
-                if (view.matchesEntity(entity)) {
-                    notFound = false;
-                    view.update();
-                    break;
-                }
-            }
-            if (notFound) {
-                EntityView entityView = new EntityViewImpl(entity);
-                entityViews.add(entityView);
-                pane.getChildren().add(entityView.getNode());
-            }
+        if (staticLayer != null) {
+            staticLayer.redraw();
         }
 
-        for (EntityView entityView : entityViews) {
-            if (entityView.isMarkedForDelete()) {
-                pane.getChildren().remove(entityView.getNode());
-            }
+        Set<EntityView> settledViews = movingViews;
+        settledViews.clear();
+        movingViews = changedViews;
+        changedViews = settledViews;
+    }
+
+    @Override
+    public void renderableAdded(Renderable renderable) {
+        if (staticLayer != null && renderable instanceof StaticEntity) {
+            staticLayer.add(renderable);
+            return;
+        }
+
+        EntityView entityView = entityViews.get(renderable);
+        if (entityView != null) {
+            changedViews.add(entityView);
+            return;
+        }
+
+        entityView = new EntityViewImpl(renderable);
+        entityViews.put(renderable, entityView);
+        pane.getChildren().add(entityView.getNode());
+    }
+
+    @Override
+    public void renderableRemoved(Renderable renderable) {
+        if (staticLayer != null && staticLayer.contains(renderable)) {
+            staticLayer.remove(renderable);
+            return;
+        }
+
+        EntityView entityView = entityViews.remove(renderable);
+        if (entityView != null) {
+            changedViews.remove(entityView);
+            movingViews.remove(entityView);
+            pane.getChildren().remove(entityView.getNode());
         }
+    }
 
-        entityViews.removeIf(EntityView::isMarkedForDelete);
+    @Override
+    public void renderableChanged(Renderable renderable) {
+        if (staticLayer != null && staticLayer.contains(renderable)) {
+            staticLayer.markDirty(renderable);
+            return;
+        }
+
+        EntityView entityView = entityViews.get(renderable);
+        if (entityView != null) {
+            changedViews.add(entityView);
+        }
     }
 }
@@ -1,17 +1,16 @@
 package pacman.view.display;
 
 import javafx.scene.Node;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
-import pacman.util.ResourceUtils;
+import pacman.model.entity.Sprite;
+import pacman.view.entity.SpriteAtlas;
 
 /**
  * Displays the number of lives of player
  */
 public class NumLivesDisplay implements Display {
 
-    private static final Image IMAGE = new Image(ResourceUtils.toExternalForm("maze/pacman/playerRight.png"));
     private final HBox node;
 
     public NumLivesDisplay() {
@@ -23,7 +22,9 @@ public class NumLivesDisplay implements Display {
     public void update(int numLives) {
         this.node.getChildren().clear();
         for (int i = 0; i < numLives; i++) {
-            this.node.getChildren().add(new ImageView(IMAGE));
+            ImageView life = new ImageView(SpriteAtlas.getInstance().getImage());
+            life.setViewport(SpriteAtlas.getInstance().getViewport(Sprite.PACMAN_RIGHT));
+            this.node.getChildren().add(life);
         }
     }
 
@@ -1,7 +1,6 @@
 package pacman.view.entity;
 
 import javafx.scene.Node;
-import pacman.model.entity.Renderable;
 
 /**
  * Responsible for rendering Pac-Man game entity
@@ -14,17 +13,11 @@ public interface EntityView {
     void update();
 
     /**
-     * Checks if two entities are equals
+     * Positions the display node between the entity's positions at the last two updates
      *
-     * @param entity entity to be checked
-     * @return true, if entities are equal
+     * @param interpolation fraction of the way from the previous to the latest update (0 to 1)
      */
-    boolean matchesEntity(Renderable entity);
-
-    /**
-     * Marks the entity view for deletion
-     */
-    void markForDelete();
+    void render(double interpolation);
 
     /**
      * Returns the display node for renderable
@@ -32,11 +25,4 @@ public interface EntityView {
      * @return display node for renderable
      */
     Node getNode();
-
-    /**
-     * Returns whether entity view has been marked for deletion
-     *
-     * @return true, if entity view has been marked for deletion
-     */
-    boolean isMarkedForDelete();
 }
@@ -4,27 +4,51 @@ import javafx.scene.Node;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.HBox;
 import pacman.model.entity.Renderable;
+import pacman.model.entity.Sprite;
+import pacman.model.entity.dynamic.physics.Vector2D;
 
 /**
  * Concrete implementation of EntityView
  */
 public class EntityViewImpl implements EntityView {
+    // moves longer than this between two updates are teleports (e.g. respawns) and are not interpolated
+    private static final double MAX_INTERPOLATION_DISTANCE = 16;
     private final Renderable entity;
     private final ImageView node;
     private final HBox box;
-    private boolean delete = false;
+    private Sprite sprite;
+    // version of the entity last applied to the node, so unchanged entities cause no property writes
+    private long version;
+    private double previousX;
+    private double previousY;
+    private double currentX;
+    private double currentY;
+    private double layoutX;
+    private double layoutY;
 
     public EntityViewImpl(Renderable entity) {
         this.entity = entity;
         box = new HBox();
-        node = new ImageView(entity.getImage());
+        sprite = entity.getSprite();
+        node = new ImageView(SpriteAtlas.getInstance().getImage());
+        node.setViewport(SpriteAtlas.getInstance().getViewport(sprite));
         box.getChildren().add(node);
         box.setViewOrder(getViewOrder(entity.getLayer()));
         box.setFillHeight(true);
-        update();
+        // entity sizes are fixed, so the fit only needs to be set once
+        node.setFitHeight(entity.getHeight());
+        node.setFitWidth(entity.getWidth());
+        node.setPreserveRatio(true);
+        node.setVisible(entity.getLayer() != Renderable.Layer.INVISIBLE);
+
+        version = entity.getVersion();
+        currentX = previousX = layoutX = entity.getPosition().getX();
+        currentY = previousY = layoutY = entity.getPosition().getY();
+        box.setLayoutX(layoutX);
+        box.setLayoutY(layoutY);
     }
 
-    private static double getViewOrder(Renderable.Layer layer) {
+    static double getViewOrder(Renderable.Layer layer) {
         return switch (layer) {
             case BACKGROUND -> 100.0;
             case FOREGROUND -> 50.0;
@@ -35,40 +59,50 @@ public class EntityViewImpl implements EntityView {
 
     @Override
     public void update() {
-        if (entity.getLayer() != Renderable.Layer.INVISIBLE) {
-            node.setVisible(true);
-            if (!node.getImage().equals(entity.getImage())) {
-                node.setImage(entity.getImage());
-            }
-            box.setLayoutX(entity.getPosition().getX());
-            box.setLayoutY(entity.getPosition().getY());
-            node.setFitHeight(entity.getHeight());
-            node.setFitWidth(entity.getWidth());
-            node.setPreserveRatio(true);
-        } else {
-            node.setVisible(false);
+        previousX = currentX;
+        previousY = currentY;
+
+        long entityVersion = entity.getVersion();
+        if (entityVersion == version) {
+            return;
         }
+        version = entityVersion;
 
-        delete = false;
-    }
+        boolean visible = entity.getLayer() != Renderable.Layer.INVISIBLE;
+        if (node.isVisible() != visible) {
+            node.setVisible(visible);
+        }
+        if (visible && sprite != entity.getSprite()) {
+            sprite = entity.getSprite();
+            node.setViewport(SpriteAtlas.getInstance().getViewport(sprite));
+        }
 
-    @Override
-    public boolean matchesEntity(Renderable entity) {
-        return this.entity.equals(entity);
+        Vector2D position = entity.getPosition();
+        currentX = position.getX();
+        currentY = position.getY();
+        if (Math.abs(currentX - previousX) > MAX_INTERPOLATION_DISTANCE ||
+                Math.abs(currentY - previousY) > MAX_INTERPOLATION_DISTANCE) {
+            previousX = currentX;
+            previousY = currentY;
+        }
     }
 
     @Override
-    public void markForDelete() {
-        delete = true;
+    public void render(double interpolation) {
+        double x = previousX + (currentX - previousX) * interpolation;
+        double y = previousY + (currentY - previousY) * interpolation;
+        if (x != layoutX) {
+            layoutX = x;
+            box.setLayoutX(x);
+        }
+        if (y != layoutY) {
+            layoutY = y;
+            box.setLayoutY(y);
+        }
     }
 
     @Override
     public Node getNode() {
         return box;
     }
-
-    @Override
-    public boolean isMarkedForDelete() {
-        return delete;
-    }
 }
@@ -0,0 +1,98 @@
+package pacman.view.entity;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import pacman.model.entity.Sprite;
+import pacman.util.ResourceUtils;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Resolves the model's sprite handles to regions of a single shared texture.
+ * <p>
+ * Every sprite image is decoded once, the first time the atlas is used, and copied into one image using simple
+ * shelf packing. Views draw a sprite by showing the atlas image through the sprite's viewport, so switching
+ * sprites only changes the viewport and all entities share one texture.
+ */
+public final class SpriteAtlas {
+
+    private static final int MAX_WIDTH = 256;
+    // empty pixels between sprites, so smoothing never samples a neighbouring sprite
+    private static final int PADDING = 1;
+
+    private final Image image;
+    private final Map<Sprite, Rectangle2D> viewports;
+
+    private SpriteAtlas() {
+        Map<Sprite, Image> images = new EnumMap<>(Sprite.class);
+        for (Sprite sprite : Sprite.values()) {
+            images.put(sprite, new Image(ResourceUtils.toExternalForm(sprite.getResourcePath())));
+        }
+
+        // place the tallest sprites first, filling rows ("shelves") from left to right
+        Sprite[] order = Sprite.values();
+        Arrays.sort(order, Comparator.comparingDouble((Sprite sprite) -> images.get(sprite).getHeight()).reversed());
+
+        this.viewports = new EnumMap<>(Sprite.class);
+        int x = 0;
+        int y = 0;
+        int shelfHeight = 0;
+        int atlasWidth = 0;
+        for (Sprite sprite : order) {
+            int width = (int) Math.ceil(images.get(sprite).getWidth());
+            int height = (int) Math.ceil(images.get(sprite).getHeight());
+            if (x > 0 && x + width > MAX_WIDTH) {
+                x = 0;
+                y += shelfHeight + PADDING;
+                shelfHeight = 0;
+            }
+            viewports.put(sprite, new Rectangle2D(x, y, width, height));
+            x += width + PADDING;
+            shelfHeight = Math.max(shelfHeight, height);
+            atlasWidth = Math.max(atlasWidth, x);
+        }
+
+        WritableImage atlas = new WritableImage(Math.max(1, atlasWidth), Math.max(1, y + shelfHeight));
+        for (Sprite sprite : order) {
+            Rectangle2D viewport = viewports.get(sprite);
+            atlas.getPixelWriter().setPixels((int) viewport.getMinX(), (int) viewport.getMinY(),
+                    (int) viewport.getWidth(), (int) viewport.getHeight(),
+                    images.get(sprite).getPixelReader(), 0, 0);
+        }
+        this.image = atlas;
+    }
+
+    /**
+     * Retrieves the shared atlas, building it on first use
+     *
+     * @return the sprite atlas
+     */
+    public static SpriteAtlas getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * @return image holding every sprite
+     */
+    public Image getImage() {
+        return image;
+    }
+
+    /**
+     * Retrieves the region of the atlas image the given sprite is stored in
+     *
+     * @param sprite sprite to resolve
+     * @return viewport of the sprite
+     */
+    public Rectangle2D getViewport(Sprite sprite) {
+        return viewports.get(sprite);
+    }
+
+    private static final class Holder {
+        private static final SpriteAtlas INSTANCE = new SpriteAtlas();
+    }
+}
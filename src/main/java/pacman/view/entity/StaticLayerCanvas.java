@@ -0,0 +1,161 @@
+package pacman.view.entity;
+
+import javafx.geometry.Rectangle2D;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import pacman.model.entity.Renderable;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.IntConsumer;
+
+/**
+ * Draws static entities (walls, pellets) into a single canvas instead of one scene graph node per entity.
+ * <p>
+ * The canvas is split into tiles. Adding, removing or changing an entity only marks the tiles it covers as dirty,
+ * and {@link #redraw()} repaints just those tiles, so collecting a pellet costs one tile redraw.
+ */
+public class StaticLayerCanvas {
+
+    private final SpriteAtlas atlas;
+    private final Canvas canvas;
+    private final GraphicsContext graphics;
+    private final int tileSize;
+    private final int columns;
+    private final int rows;
+    // entities drawn in each tile, indexed by row * columns + column
+    private final List<List<Renderable>> tileEntities;
+    private final Set<Renderable> entities;
+    private final BitSet dirtyTiles;
+
+    /**
+     * @param width    width of the layer, in pixels
+     * @param height   height of the layer, in pixels
+     * @param tileSize size of the tiles the layer is redrawn in, in pixels
+     */
+    public StaticLayerCanvas(double width, double height, int tileSize) {
+        this.atlas = SpriteAtlas.getInstance();
+        this.canvas = new Canvas(width, height);
+        this.graphics = canvas.getGraphicsContext2D();
+        this.tileSize = tileSize;
+        this.columns = (int) Math.ceil(width / tileSize);
+        this.rows = (int) Math.ceil(height / tileSize);
+        this.tileEntities = new ArrayList<>(columns * rows);
+        for (int tile = 0; tile < columns * rows; tile++) {
+            tileEntities.add(new ArrayList<>(1));
+        }
+        this.entities = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.dirtyTiles = new BitSet(columns * rows);
+
+        canvas.setViewOrder(EntityViewImpl.getViewOrder(Renderable.Layer.BACKGROUND));
+    }
+
+    public Node getNode() {
+        return canvas;
+    }
+
+    /**
+     * Adds an entity to the layer. Adding an entity that is already on the layer redraws it.
+     *
+     * @param entity static entity to draw
+     */
+    public void add(Renderable entity) {
+        if (entities.add(entity)) {
+            forEachTile(entity, tile -> tileEntities.get(tile).add(entity));
+        }
+        markDirty(entity);
+    }
+
+    /**
+     * Removes an entity from the layer
+     *
+     * @param entity static entity to remove
+     */
+    public void remove(Renderable entity) {
+        if (entities.remove(entity)) {
+            forEachTile(entity, tile -> {
+                tileEntities.get(tile).remove(entity);
+                dirtyTiles.set(tile);
+            });
+        }
+    }
+
+    /**
+     * Marks the tiles covered by an entity for redrawing, e.g. because it was collected
+     *
+     * @param entity static entity that changed
+     */
+    public void markDirty(Renderable entity) {
+        if (entities.contains(entity)) {
+            forEachTile(entity, dirtyTiles::set);
+        }
+    }
+
+    /**
+     * @param entity entity to check
+     * @return true, if the entity is drawn by this layer
+     */
+    public boolean contains(Renderable entity) {
+        return entities.contains(entity);
+    }
+
+    /**
+     * Repaints the tiles marked dirty since the last redraw
+     */
+    public void redraw() {
+        for (int tile = dirtyTiles.nextSetBit(0); tile >= 0; tile = dirtyTiles.nextSetBit(tile + 1)) {
+            double tileX = (tile % columns) * (double) tileSize;
+            double tileY = (tile / columns) * (double) tileSize;
+            graphics.clearRect(tileX, tileY, tileSize, tileSize);
+
+            for (Renderable entity : tileEntities.get(tile)) {
+                if (entity.getLayer() != Renderable.Layer.INVISIBLE) {
+                    drawClipped(entity, tileX, tileY);
+                }
+            }
+        }
+        dirtyTiles.clear();
+    }
+
+    // only the part of the entity inside the tile is drawn, so neighbouring tiles are left untouched
+    private void drawClipped(Renderable entity, double tileX, double tileY) {
+        double x = entity.getBoundingBox().getLeftX();
+        double y = entity.getBoundingBox().getTopY();
+        double width = entity.getWidth();
+        double height = entity.getHeight();
+
+        double left = Math.max(x, tileX);
+        double top = Math.max(y, tileY);
+        double right = Math.min(x + width, tileX + tileSize);
+        double bottom = Math.min(y + height, tileY + tileSize);
+        if (right <= left || bottom <= top) {
+            return;
+        }
+
+        Rectangle2D viewport = atlas.getViewport(entity.getSprite());
+        double scaleX = viewport.getWidth() / width;
+        double scaleY = viewport.getHeight() / height;
+        graphics.drawImage(atlas.getImage(),
+                viewport.getMinX() + (left - x) * scaleX, viewport.getMinY() + (top - y) * scaleY,
+                (right - left) * scaleX, (bottom - top) * scaleY,
+                left, top, right - left, bottom - top);
+    }
+
+    private void forEachTile(Renderable entity, IntConsumer action) {
+        int minColumn = Math.max(0, (int) Math.floor(entity.getBoundingBox().getLeftX() / tileSize));
+        int maxColumn = Math.min(columns - 1, (int) Math.ceil(entity.getBoundingBox().getRightX() / tileSize) - 1);
+        int minRow = Math.max(0, (int) Math.floor(entity.getBoundingBox().getTopY() / tileSize));
+        int maxRow = Math.min(rows - 1, (int) Math.ceil(entity.getBoundingBox().getBottomY() / tileSize) - 1);
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                action.accept(row * columns + column);
+            }
+        }
+    }
+}
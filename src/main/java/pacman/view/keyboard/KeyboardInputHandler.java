@@ -5,7 +5,7 @@ import javafx.scene.input.KeyEvent;
 import pacman.model.engine.GameEngine;
 import pacman.model.entity.dynamic.physics.Direction;
 import pacman.model.entity.dynamic.player.MovementInvoker;
-import pacman.view.keyboard.command.*;
+import pacman.model.entity.dynamic.player.command.*;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -23,7 +23,7 @@ public class KeyboardInputHandler {
         this.commands.put(Direction.RIGHT, new MoveRightCommand(engine));
         this.commands.put(Direction.UP, new MoveUpCommand(engine));
         this.commands.put(Direction.DOWN, new MoveDownCommand(engine));
-        this.movementInvoker = MovementInvoker.getInstance();
+        this.movementInvoker = engine.getMovementInvoker();
     }
 
     private Direction getDirection(KeyCode keyCode) {
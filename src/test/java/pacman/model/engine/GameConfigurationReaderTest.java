@@ -46,6 +46,16 @@ class GameConfigurationReaderTest {
         assertEquals(0, reader.getLevelConfigs().size());
     }
 
+    @Test
+    void readsOptionalSeed(@TempDir Path tempDir) throws IOException {
+        Path configFile = tempDir.resolve("config.json");
+        Files.writeString(configFile, "{\"map\": \"map.txt\", \"numLives\": 1, \"levels\": [], \"seed\": 42}",
+                StandardCharsets.UTF_8);
+
+        assertEquals(42, new GameConfigurationReader(configFile.toString()).getSeed().getAsLong());
+        assertTrue(new GameConfigurationReader("/config.json").getSeed().isEmpty());
+    }
+
     @Test
     void throwsWhenConfigMissing() {
         String missing = "__missing_config__" + java.util.UUID.randomUUID() + ".json";
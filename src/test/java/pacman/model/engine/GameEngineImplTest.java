@@ -0,0 +1,102 @@
+package pacman.model.engine;
+
+import org.junit.jupiter.api.Test;
+import pacman.model.engine.observer.GameState;
+import pacman.model.entity.Renderable;
+import pacman.model.entity.dynamic.DynamicEntity;
+import pacman.model.level.observer.RenderableObserver;
+import pacman.model.snapshot.GameSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static pacman.model.engine.TestGames.assertSameRenderables;
+import static pacman.model.engine.TestGames.describe;
+
+class GameEngineImplTest {
+
+    private static class RecordingObserver implements RenderableObserver {
+        private final List<Renderable> added = new ArrayList<>();
+        private final List<Renderable> changed = new ArrayList<>();
+
+        @Override
+        public void renderableAdded(Renderable renderable) {
+            added.add(renderable);
+        }
+
+        @Override
+        public void renderableRemoved(Renderable renderable) {
+            // Not needed for tests.
+        }
+
+        @Override
+        public void renderableChanged(Renderable renderable) {
+            changed.add(renderable);
+        }
+    }
+
+    @Test
+    void notifiesRenderableObserversOfLevelRenderables() {
+        GameEngine engine = new GameEngineImpl("/config.json");
+        RecordingObserver observer = new RecordingObserver();
+        engine.registerRenderableObserver(observer);
+
+        engine.startGame();
+        assertEquals(engine.getRenderables().size(), observer.added.size());
+
+        for (int i = 0; i < 200; i++) {
+            engine.tick();
+        }
+
+        assertFalse(observer.changed.isEmpty());
+        assertTrue(observer.changed.stream().anyMatch(renderable -> renderable instanceof DynamicEntity));
+    }
+
+    @Test
+    void gamesWithSameSeedPlayOutIdentically() {
+        GameEngine first = TestGames.start(7);
+        GameEngine second = TestGames.start(7);
+        assertEquals(7, first.getSeed());
+
+        TestGames.play(first, 0, 3000);
+        TestGames.play(second, 0, 3000);
+
+        assertSameRenderables(first, second);
+    }
+
+    @Test
+    void restoredSnapshotPlaysOutLikeTheOriginalGame() {
+        GameEngine engine = TestGames.start(11);
+        TestGames.play(engine, 0, 600);
+
+        GameSnapshot snapshot = engine.snapshot();
+        TestGames.play(engine, 600, 2500);
+        String expected = describe(engine);
+        GameSnapshot expectedSnapshot = engine.snapshot();
+
+        engine.restore(snapshot);
+        assertEquals(snapshot, engine.snapshot());
+        TestGames.play(engine, 600, 2500);
+
+        assertEquals(expected, describe(engine));
+        assertEquals(expectedSnapshot, engine.snapshot());
+    }
+
+    @Test
+    void snapshotRestoresIntoAnotherEngineAfterItsGameEnded() {
+        GameEngine first = TestGames.start(3);
+        TestGames.play(first, 0, 400);
+        GameSnapshot snapshot = first.snapshot();
+
+        GameEngine second = TestGames.start(99);
+        TestGames.playToEnd(second, 20_000);
+        assertEquals(GameState.GAME_OVER, second.snapshot().gameState());
+
+        second.restore(snapshot);
+        TestGames.play(first, 400, 1500);
+        TestGames.play(second, 400, 1500);
+        assertSameRenderables(first, second);
+        assertEquals(first.snapshot(), second.snapshot());
+    }
+}
@@ -0,0 +1,85 @@
+package pacman.model.engine;
+
+import pacman.model.engine.observer.GameState;
+import pacman.model.entity.Renderable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Scripted games shared by the tests that check that games play out the same way twice
+ */
+public final class TestGames {
+
+    public static final String CONFIG_PATH = "/config.json";
+
+    private TestGames() {
+    }
+
+    /**
+     * @param seed seed of the game
+     * @return started game
+     */
+    public static GameEngine start(long seed) {
+        GameEngine engine = new GameEngineImpl(CONFIG_PATH, seed);
+        engine.startGame();
+        return engine;
+    }
+
+    /**
+     * Ticks a game from one tick number to another, pressing up and right in turn every 75 ticks.
+     * Playing a game in several calls makes the same moves as playing it in one.
+     *
+     * @param engine game to play
+     * @param from   number of the first tick, inclusive
+     * @param to     number of the last tick, exclusive
+     */
+    public static void play(GameEngine engine, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (i % 150 == 0) {
+                engine.moveUp();
+            } else if (i % 150 == 75) {
+                engine.moveRight();
+            }
+            engine.tick();
+        }
+    }
+
+    /**
+     * Ticks a game without moving until it is won or lost
+     *
+     * @param engine   game to play
+     * @param maxTicks number of ticks after which to give up
+     */
+    public static void playToEnd(GameEngine engine, int maxTicks) {
+        for (int i = 0; i < maxTicks && !isEnded(engine); i++) {
+            engine.tick();
+        }
+    }
+
+    private static boolean isEnded(GameEngine engine) {
+        GameState gameState = engine.snapshot().gameState();
+        return gameState == GameState.GAME_OVER || gameState == GameState.PLAYER_WIN;
+    }
+
+    /**
+     * @param engine game to describe
+     * @return position, layer and sprite of every renderable of the game
+     */
+    public static String describe(GameEngine engine) {
+        StringBuilder description = new StringBuilder();
+        for (Renderable renderable : engine.getRenderables()) {
+            description.append(renderable.getPosition().getX()).append(',')
+                    .append(renderable.getPosition().getY()).append(',')
+                    .append(renderable.getLayer()).append(',')
+                    .append(renderable.getSprite()).append(';');
+        }
+        return description.toString();
+    }
+
+    /**
+     * Asserts that two games show the same renderables in the same places
+     */
+    public static void assertSameRenderables(GameEngine expected, GameEngine actual) {
+        assertEquals(describe(expected), describe(actual));
+    }
+}
@@ -0,0 +1,62 @@
+package pacman.model.engine.replay;
+
+import org.junit.jupiter.api.Test;
+import pacman.model.entity.dynamic.physics.Direction;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReplayTest {
+
+    @Test
+    void readsWhatWasWritten() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ReplayWriter writer = new ReplayWriter(out, -42, "/config.json")) {
+            writer.writeMove(0, Direction.LEFT);
+            writer.writeMove(0, Direction.UP);
+            writer.writeMove(130, Direction.RIGHT);
+            writer.writeMove(5_000_000_000L, Direction.DOWN);
+            writer.writeEnd(5_000_000_007L);
+        }
+
+        Replay replay = Replay.read(new ByteArrayInputStream(out.toByteArray()));
+
+        assertEquals(-42, replay.getSeed());
+        assertEquals("/config.json", replay.getConfigPath());
+        assertEquals(4, replay.getNumMoves());
+        assertEquals(Direction.UP, replay.getMove(1));
+        assertEquals(0, replay.getTick(1));
+        assertEquals(130, replay.getTick(2));
+        assertEquals(Direction.DOWN, replay.getMove(3));
+        assertEquals(5_000_000_000L, replay.getTick(3));
+        assertEquals(5_000_000_007L, replay.getEndTick());
+    }
+
+    @Test
+    void keepsCompleteMovesOfTruncatedReplay() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ReplayWriter writer = new ReplayWriter(out, 1, "/config.json")) {
+            writer.writeMove(3, Direction.LEFT);
+            writer.writeMove(200, Direction.UP);
+        }
+        byte[] bytes = out.toByteArray();
+
+        Replay replay = Replay.read(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 1)));
+
+        assertEquals(1, replay.getNumMoves());
+        assertEquals(3, replay.getTick(0));
+        assertEquals(-1, replay.getEndTick());
+    }
+
+    @Test
+    void rejectsMovesOutOfOrder() throws IOException {
+        ReplayWriter writer = new ReplayWriter(new ByteArrayOutputStream(), 1, "/config.json");
+        writer.writeMove(10, Direction.LEFT);
+
+        assertThrows(IllegalArgumentException.class, () -> writer.writeMove(9, Direction.LEFT));
+    }
+}
@@ -0,0 +1,164 @@
+package pacman.model.engine.spectator;
+
+import org.junit.jupiter.api.Test;
+import pacman.model.engine.GameEngine;
+import pacman.model.engine.GameEngineImpl;
+import pacman.model.engine.TestGames;
+import pacman.model.engine.observer.GameState;
+import pacman.model.entity.Renderable;
+import pacman.model.entity.Sprite;
+import pacman.model.level.observer.LevelStateObserver;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SpectatorStreamTest {
+
+    private static class ScoreObserver implements LevelStateObserver {
+        private int score;
+        private int numLives;
+
+        @Override
+        public void updateNumLives(int numLives) {
+            this.numLives = numLives;
+        }
+
+        @Override
+        public void updateGameState(GameState gameState) {
+        }
+
+        @Override
+        public void updateScore(int scoreChange) {
+            score += scoreChange;
+        }
+    }
+
+    private static class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+
+    @Test
+    void spectatorSeesTheGameAfterEveryFrame() throws IOException {
+        GameEngine engine = new GameEngineImpl(TestGames.CONFIG_PATH, 11);
+        ScoreObserver scoreObserver = new ScoreObserver();
+        engine.registerLevelStateObserver(scoreObserver);
+        engine.startGame();
+
+        // frames are read as soon as they are written, like a spectator following a live game
+        PipedInputStream in = new PipedInputStream(1 << 20);
+        CountingOutputStream out = new CountingOutputStream(new PipedOutputStream(in));
+        engine.startSpectatorStream(out, 100);
+        SpectatorStreamReader reader = new SpectatorStreamReader(in);
+        long numDeltaBytes = 0;
+        int numDeltas = 0;
+
+        for (int i = 1; i <= 1200; i++) {
+            TestGames.play(engine, i, i + 1);
+
+            long frameSize = out.count;
+            out.count = 0;
+            assertTrue(reader.readFrame());
+            assertEquals(i % 100 == 1, reader.isKeyframe());
+            if (!reader.isKeyframe()) {
+                numDeltaBytes += frameSize;
+                numDeltas++;
+            }
+
+            assertEquals(i, reader.getTick());
+            assertEquals(scoreObserver.score, reader.getScore());
+            assertEquals(scoreObserver.numLives, reader.getNumLives());
+            List<Renderable> renderables = engine.getRenderables();
+            assertEquals(renderables.size(), reader.getNumEntities());
+            for (int id = 0; id < renderables.size(); id++) {
+                Renderable renderable = renderables.get(id);
+                assertEquals((float) renderable.getPosition().getX(), reader.getX(id));
+                assertEquals((float) renderable.getPosition().getY(), reader.getY(id));
+                assertEquals(renderable.getSprite(), reader.getSprite(id));
+                assertEquals(renderable.getLayer(), reader.getLayer(id));
+            }
+        }
+
+        assertTrue(scoreObserver.score > 0);
+        // a delta holds a handful of moving entities, not the whole maze
+        assertTrue(numDeltaBytes / numDeltas < 80, "average delta size " + numDeltaBytes / numDeltas);
+
+        engine.stopSpectatorStream();
+        assertFalse(reader.readFrame());
+    }
+
+    @Test
+    void lateSpectatorSkipsDeltasUntilAKeyframe() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(SpectatorStreamReader.MAGIC);
+        out.writeShort(SpectatorStreamReader.VERSION);
+        // delta moving entity 3, whose earlier state the spectator never saw
+        out.writeByte(SpectatorStreamReader.DELTA);
+        out.writeByte(7);
+        out.writeByte(SpectatorStreamReader.SCORE);
+        out.writeByte(10);
+        out.writeByte(1);
+        out.writeByte(3);
+        out.writeByte(SpectatorStreamReader.POSITION);
+        out.writeFloat(1);
+        out.writeFloat(2);
+        out.writeByte(0);
+        // keyframe with a single wall
+        out.writeByte(SpectatorStreamReader.KEYFRAME);
+        out.writeByte(8);
+        out.writeByte(SpectatorStreamReader.SCORE | SpectatorStreamReader.LIVES);
+        out.writeByte(20);
+        out.writeByte(3);
+        out.writeByte(1);
+        out.writeByte(SpectatorStreamReader.ALL_ENTITY_FIELDS);
+        out.writeFloat(16);
+        out.writeFloat(32);
+        out.writeByte(-1);
+        out.writeByte(Sprite.HORIZONTAL_WALL.ordinal());
+        out.writeByte(Renderable.Layer.BACKGROUND.ordinal());
+        out.writeByte(0);
+
+        SpectatorStreamReader reader = new SpectatorStreamReader(new ByteArrayInputStream(bytes.toByteArray()));
+        assertTrue(reader.readFrame());
+        assertFalse(reader.isSynced());
+        assertEquals(-1, reader.getTick());
+        assertEquals(0, reader.getNumEntities());
+
+        assertTrue(reader.readFrame());
+        assertTrue(reader.isSynced());
+        assertEquals(8, reader.getTick());
+        assertEquals(20, reader.getScore());
+        assertEquals(3, reader.getNumLives());
+        assertEquals(1, reader.getNumEntities());
+        assertEquals(16, reader.getX(0));
+        assertNull(reader.getDirection(0));
+        assertEquals(Sprite.HORIZONTAL_WALL, reader.getSprite(0));
+        // the stream has no end record, e.g. because the game crashed
+        assertFalse(reader.readFrame());
+    }
+}
@@ -0,0 +1,90 @@
+package pacman.model.entity.dynamic.ghost;
+
+import org.junit.jupiter.api.Test;
+import pacman.model.entity.Sprite;
+import pacman.model.entity.dynamic.physics.BoundingBoxImpl;
+import pacman.model.entity.dynamic.physics.Direction;
+import pacman.model.entity.dynamic.physics.KinematicStateImpl;
+import pacman.model.entity.dynamic.physics.Vector2D;
+import pacman.model.strategy.BlinkyChaseStrategy;
+import pacman.util.SplitMix64;
+
+import java.util.EnumSet;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GhostImplTest {
+
+    private static GhostImpl createGhost() {
+        Vector2D position = new Vector2D(64, 64);
+        GhostImpl ghost = new GhostImpl(Sprite.BLINKY, new BoundingBoxImpl(position, 16, 16),
+                new KinematicStateImpl.KinematicStateBuilder().setPosition(position).build(),
+                GhostMode.SCATTER, new Vector2D(0, 0), 'b', new BlinkyChaseStrategy(), new SplitMix64(1));
+        ghost.setSpeeds(Map.of(GhostMode.SCATTER, 1.0, GhostMode.CHASE, 1.0, GhostMode.FRIGHTENED, 1.0));
+        return ghost;
+    }
+
+    // lets the ghost change direction on its next update, heading the given way
+    private static void headFor(GhostImpl ghost, Direction direction) {
+        ghost.setGhostMode(GhostMode.SCATTER);
+        ghost.setCurrentDirection(direction);
+    }
+
+    @Test
+    void breaksTiesInDeclarationOrder() {
+        GhostImpl ghost = createGhost();
+        ghost.setNavigationStrategy((g, direction, target) -> 10);
+
+        ghost.setPossibleDirections(EnumSet.allOf(Direction.class));
+        ghost.updateDirection();
+        assertEquals(Direction.UP, ghost.getDirection());
+
+        ghost.setNavigationStrategy((g, direction, target) -> direction == Direction.UP ? 20 : 10);
+        headFor(ghost, Direction.LEFT);
+        ghost.setPossibleDirections(EnumSet.of(Direction.UP, Direction.DOWN, Direction.LEFT));
+        ghost.updateDirection();
+        assertEquals(Direction.DOWN, ghost.getDirection());
+    }
+
+    @Test
+    void choosesClosestDirection() {
+        GhostImpl ghost = createGhost();
+        ghost.setNavigationStrategy((g, direction, target) -> direction == Direction.RIGHT ? 1 : 10);
+
+        ghost.setPossibleDirections(EnumSet.allOf(Direction.class));
+        ghost.updateDirection();
+
+        assertEquals(Direction.RIGHT, ghost.getDirection());
+    }
+
+    @Test
+    void reversesOnlyWhenTrapped() {
+        GhostImpl ghost = createGhost();
+        // reversing would be the closest way to the target
+        ghost.setNavigationStrategy((g, direction, target) -> direction == Direction.DOWN ? 1 : 10);
+
+        headFor(ghost, Direction.UP);
+        ghost.setPossibleDirections(EnumSet.of(Direction.DOWN, Direction.LEFT));
+        ghost.updateDirection();
+        assertEquals(Direction.LEFT, ghost.getDirection());
+
+        headFor(ghost, Direction.UP);
+        ghost.setPossibleDirections(EnumSet.of(Direction.DOWN));
+        ghost.updateDirection();
+        assertEquals(Direction.DOWN, ghost.getDirection());
+    }
+
+    @Test
+    void choosesDirectionWhenEveryMoveLeadsAwayFromTheTarget() {
+        GhostImpl ghost = createGhost();
+        // what PathNavigationStrategy reports for moves that leave every path to the target
+        ghost.setNavigationStrategy((g, direction, target) -> Double.POSITIVE_INFINITY);
+
+        headFor(ghost, Direction.UP);
+        ghost.setPossibleDirections(EnumSet.of(Direction.DOWN, Direction.LEFT, Direction.RIGHT));
+        ghost.updateDirection();
+
+        assertEquals(Direction.LEFT, ghost.getDirection());
+    }
+}
@@ -0,0 +1,31 @@
+package pacman.model.entity.dynamic.physics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundingBoxImplTest {
+
+    @Test
+    void startsAtGivenTopLeft() {
+        BoundingBox box = new BoundingBoxImpl(new Vector2D(32, 48), 16, 24);
+
+        assertEquals(32, box.getLeftX());
+        assertEquals(48, box.getTopY());
+        assertEquals(56, box.getRightX());
+        assertEquals(64, box.getBottomY());
+        assertTrue(box.containsPoint(40, 50));
+        assertFalse(box.containsPoint(10, 10));
+    }
+
+    @Test
+    void collidesWhenLeadingEdgeEntersBox() {
+        BoundingBox wall = new BoundingBoxImpl(new Vector2D(16, 0), 16, 16);
+        BoundingBox mover = new BoundingBoxImpl(new Vector2D(0, 0), 16, 16);
+
+        assertFalse(mover.collidesWith(1, Direction.RIGHT, wall));
+        mover.setTopLeft(6, 0);
+        assertTrue(mover.collidesWith(1, Direction.RIGHT, wall));
+        assertFalse(mover.collidesWith(1, Direction.LEFT, wall));
+    }
+}
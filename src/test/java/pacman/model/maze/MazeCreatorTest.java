@@ -4,7 +4,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 import pacman.ConfigurationParseException;
 import pacman.model.entity.Renderable;
+import pacman.model.entity.Sprite;
+import pacman.model.entity.dynamic.physics.BoundingBoxImpl;
+import pacman.model.entity.dynamic.physics.Direction;
 import pacman.model.entity.dynamic.physics.Vector2D;
+import pacman.model.entity.staticentity.StaticEntityImpl;
 import pacman.model.factories.RenderableFactory;
 import pacman.model.factories.RenderableFactoryRegistry;
 
@@ -13,13 +17,14 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 class MazeCreatorTest {
 
-    private static final class RecordingRegistry implements RenderableFactoryRegistry {
+    private static class RecordingRegistry implements RenderableFactoryRegistry {
         private final List<Call> calls = new ArrayList<>();
 
         @Override
@@ -71,6 +76,61 @@ class MazeCreatorTest {
         assertEquals(16, calls.get(3).position().getY());
     }
 
+    @Test
+    void recordsTileGridOfParsedMap(@TempDir Path tempDir) throws IOException {
+        Path mapFile = tempDir.resolve("map.txt");
+        Files.writeString(mapFile, "121\n170\n11\n", StandardCharsets.UTF_8);
+
+        RenderableFactoryRegistry registry = new RecordingRegistry() {
+            @Override
+            public Renderable createRenderable(char renderableType, Vector2D position) {
+                if (renderableType == '0') {
+                    return null;
+                }
+                BoundingBoxImpl boundingBox = new BoundingBoxImpl(position, MazeCreator.RESIZING_FACTOR, MazeCreator.RESIZING_FACTOR);
+                return new StaticEntityImpl(boundingBox, Renderable.Layer.BACKGROUND, Sprite.HORIZONTAL_WALL);
+            }
+        };
+        Maze maze = new MazeCreator(mapFile.toString(), registry).createMaze();
+
+        assertEquals(3, maze.getWidth());
+        assertEquals(3, maze.getHeight());
+        assertEquals('2', maze.getTile(1, 0));
+        assertEquals('7', maze.getTile(1, 1));
+
+        assertTrue(maze.isWall(0, 0));
+        assertTrue(maze.isWall(1, 0));
+        assertFalse(maze.isWall(1, 1));
+        assertFalse(maze.isWall(2, 2));
+        assertFalse(maze.isWall(-1, 0));
+        assertTrue(maze.isWall(1, 1, Direction.UP));
+        assertFalse(maze.isWall(1, 1, Direction.RIGHT));
+
+        assertEquals(EnumSet.of(Direction.RIGHT), maze.getOpenDirections(1, 1));
+        assertEquals(EnumSet.of(Direction.DOWN, Direction.LEFT, Direction.RIGHT), maze.getOpenDirections(2, 1));
+        assertEquals(EnumSet.allOf(Direction.class), maze.getOpenDirections(5, 5));
+        assertSame(maze.getOpenDirections(1, 1), maze.getOpenDirections(1, 1));
+    }
+
+    @Test
+    void loadsBinaryMapLikeTextMap(@TempDir Path tempDir) throws IOException {
+        Path textFile = tempDir.resolve("map.txt");
+        Path binaryFile = tempDir.resolve("map.bin");
+        Files.writeString(textFile, "1p\n7\n", StandardCharsets.UTF_8);
+        MazeConverter.convert(textFile, binaryFile);
+
+        RecordingRegistry textRegistry = new RecordingRegistry();
+        new MazeCreator(textFile.toString(), textRegistry).createMaze();
+        RecordingRegistry binaryRegistry = new RecordingRegistry();
+        Maze maze = new MazeCreator(binaryFile.toString(), binaryRegistry).createMaze();
+
+        assertEquals(textRegistry.getCalls().toString(), binaryRegistry.getCalls().toString());
+        assertEquals(3, binaryRegistry.getCalls().size());
+        assertEquals(2, maze.getWidth());
+        assertEquals(2, maze.getHeight());
+        assertEquals('7', maze.getTile(0, 1));
+    }
+
     @Test
     void throwsWhenMapMissing() {
         String missing = "__missing_map__" + java.util.UUID.randomUUID() + ".txt";
@@ -0,0 +1,54 @@
+package pacman.model.maze;
+
+import org.junit.jupiter.api.Test;
+import pacman.ConfigurationParseException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MazeFormatTest {
+
+    private static ByteBuffer text(String map) {
+        return ByteBuffer.wrap(map.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @Test
+    void readsTextMapWithMixedLineEndings() {
+        MazeLayout layout = MazeFormat.readText(text("12\r\n7\rzp1"), "test");
+
+        assertEquals(3, layout.getWidth());
+        assertEquals(3, layout.getHeight());
+        assertEquals('2', layout.getTile(1, 0));
+        assertEquals(MazeLayout.NO_TILE, layout.getTile(2, 0));
+        assertEquals('7', layout.getTile(0, 1));
+        assertEquals('1', layout.getTile(2, 2));
+    }
+
+    @Test
+    void binaryRoundTripPreservesLayout() {
+        MazeLayout layout = MazeFormat.readText(text("121\n7z\n"), "test");
+
+        ByteBuffer binary = MazeFormat.writeBinary(layout);
+
+        assertTrue(MazeFormat.isBinary(binary));
+        assertEquals(MazeFormat.HEADER_SIZE + 6, binary.remaining());
+        assertEquals(layout, MazeFormat.read(binary, "test"));
+    }
+
+    @Test
+    void rejectsTruncatedBinaryMap() {
+        ByteBuffer binary = MazeFormat.writeBinary(new MazeLayout(2, 2, new byte[]{'1', '2', '3', '4'}));
+        binary.limit(binary.limit() - 1);
+
+        assertThrows(ConfigurationParseException.class, () -> MazeFormat.read(binary, "test"));
+    }
+
+    @Test
+    void rejectsNonAsciiBinaryTile() {
+        ByteBuffer binary = MazeFormat.writeBinary(new MazeLayout(2, 1, new byte[]{'1', (byte) 0xE9}));
+
+        assertThrows(ConfigurationParseException.class, () -> MazeFormat.read(binary, "test"));
+    }
+}
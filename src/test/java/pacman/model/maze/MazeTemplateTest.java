@@ -0,0 +1,72 @@
+package pacman.model.maze;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import pacman.model.entity.Renderable;
+import pacman.model.entity.Sprite;
+import pacman.model.entity.dynamic.physics.BoundingBoxImpl;
+import pacman.model.entity.dynamic.physics.Vector2D;
+import pacman.model.entity.staticentity.StaticEntityImpl;
+import pacman.model.factories.RenderableFactory;
+import pacman.model.factories.RenderableFactoryRegistry;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MazeTemplateTest {
+
+    private static final RenderableFactoryRegistry STATIC_ENTITIES = new RenderableFactoryRegistry() {
+        @Override
+        public Renderable createRenderable(char renderableType, Vector2D position) {
+            BoundingBoxImpl boundingBox = new BoundingBoxImpl(position, MazeCreator.RESIZING_FACTOR, MazeCreator.RESIZING_FACTOR);
+            return new StaticEntityImpl(boundingBox, Renderable.Layer.BACKGROUND, Sprite.PELLET);
+        }
+
+        @Override
+        public void registerFactory(char renderableType, RenderableFactory renderableFactory) {
+            // Not needed for tests.
+        }
+    };
+
+    @AfterEach
+    void clearCache() {
+        MazeTemplate.clearCache();
+    }
+
+    @Test
+    void cachesTemplatePerMapFile(@TempDir Path tempDir) throws IOException {
+        Path mapFile = tempDir.resolve("map.txt");
+        Files.writeString(mapFile, "121\n177\n", StandardCharsets.UTF_8);
+
+        MazeTemplate template = MazeTemplate.forFile(mapFile.toString());
+        Files.writeString(mapFile, "7\n", StandardCharsets.UTF_8);
+
+        assertSame(template, MazeTemplate.forFile(mapFile.toString()));
+        assertEquals(3, template.getLayout().getWidth());
+
+        MazeTemplate.clearCache();
+        assertEquals(1, MazeTemplate.forFile(mapFile.toString()).getLayout().getWidth());
+    }
+
+    @Test
+    void mazesShareLayoutButNotRenderables() {
+        MazeTemplate template = new MazeTemplate(new MazeLayout(3, 2, "121177".getBytes(StandardCharsets.US_ASCII)));
+
+        Maze first = new MazeCreator(template, STATIC_ENTITIES).createMaze();
+        Maze second = new MazeCreator(template, STATIC_ENTITIES).createMaze();
+
+        assertEquals(6, first.getRenderables().size());
+        assertEquals(2, first.getPellets().size());
+        assertNotSame(first.getRenderables().get(0), second.getRenderables().get(0));
+
+        assertTrue(second.isWall(1, 0));
+        assertFalse(second.isWall(1, 1));
+        assertEquals('7', second.getTile(2, 1));
+        assertSame(first.getOpenDirections(1, 1), second.getOpenDirections(1, 1));
+    }
+}
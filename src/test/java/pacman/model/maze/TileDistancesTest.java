@@ -0,0 +1,77 @@
+package pacman.model.maze;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TileDistancesTest {
+
+    // 0 is walkable floor, 1 is wall
+    private static Maze createMaze(String... rows) {
+        byte[] tiles = String.join("", rows).getBytes(StandardCharsets.US_ASCII);
+        return new MazeTemplate(new MazeLayout(rows[0].length(), rows.length, tiles)).createEmptyMaze();
+    }
+
+    @Test
+    void measuresWalkingDistanceAroundWalls() {
+        Maze maze = createMaze(
+                "00000",
+                "01110",
+                "00010");
+
+        assertEquals(0, maze.getPathDistance(0, 2, 0, 2));
+        assertEquals(2, maze.getPathDistance(0, 2, 0, 0));
+        // the wall forces a detour over the top row rather than the straight line below it
+        assertEquals(8, maze.getPathDistance(0, 2, 4, 2));
+        assertEquals(maze.getPathDistance(4, 2, 0, 2), maze.getPathDistance(0, 2, 4, 2));
+    }
+
+    @Test
+    void measuresToTheTilesNextToWallTargets() {
+        Maze maze = createMaze(
+                "000",
+                "010",
+                "000");
+
+        assertEquals(1, maze.getPathDistance(1, 0, 1, 1));
+        assertEquals(2, maze.getPathDistance(0, 0, 1, 1));
+        // targets outside the maze are clamped to its border
+        assertEquals(maze.getPathDistance(0, 0, 2, 2), maze.getPathDistance(0, 0, 10, 10));
+    }
+
+    @Test
+    void reportsUnreachableTiles() {
+        Maze maze = createMaze(
+                "010",
+                "010",
+                "010");
+
+        assertEquals(TileDistances.UNREACHABLE, maze.getPathDistance(0, 0, 2, 0));
+        assertEquals(TileDistances.UNREACHABLE, maze.getPathDistance(1, 0, 0, 0));
+        assertEquals(TileDistances.UNREACHABLE, maze.getPathDistance(-1, 0, 0, 0));
+    }
+
+    @Test
+    void measuresDistancesLongerThanAShort() {
+        Maze maze = createMaze("0".repeat(40_000));
+
+        assertEquals(39_999, maze.getPathDistance(0, 0, 39_999, 0));
+        assertEquals(32_768, maze.getPathDistance(39_999, 0, 7_231, 0));
+    }
+
+    @Test
+    void keepsAtMostTheMaximumNumberOfRows() {
+        TileDistances distances = new TileDistances(4, 1, new BitSet(), 2);
+
+        assertEquals(3, distances.getDistance(0, 0, 3, 0));
+        assertEquals(2, distances.getDistance(0, 0, 2, 0));
+        assertEquals(1, distances.getDistance(0, 0, 1, 0));
+        assertEquals(2, distances.getNumCachedRows());
+        // the evicted row is computed again
+        assertEquals(3, distances.getDistance(0, 0, 3, 0));
+        assertEquals(2, distances.getNumCachedRows());
+    }
+}
@@ -0,0 +1,96 @@
+package pacman.model.snapshot;
+
+import org.junit.jupiter.api.Test;
+import pacman.model.engine.GameEngine;
+import pacman.model.engine.TestGames;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SnapshotCodecTest {
+
+    @Test
+    void decodesWhatItEncodes() {
+        GameEngine engine = TestGames.start(5);
+        for (int i = 0; i < 3000; i++) {
+            TestGames.play(engine, i, i + 1);
+
+            if (i % 250 == 0) {
+                GameSnapshot snapshot = engine.snapshot();
+                byte[] encoded = SnapshotCodec.encode(snapshot);
+                assertEquals(SnapshotCodec.getEncodedSize(snapshot), encoded.length);
+                assertTrue(encoded.length < 600);
+                assertEquals(snapshot, SnapshotCodec.decode(encoded));
+            }
+        }
+    }
+
+    @Test
+    void decodedSnapshotRestoresTheGame() {
+        GameEngine engine = TestGames.start(5);
+        TestGames.play(engine, 0, 700);
+        GameSnapshot snapshot = engine.snapshot();
+
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        buffer.putInt(42);
+        SnapshotCodec.encode(snapshot, buffer);
+        buffer.flip();
+        assertEquals(42, buffer.getInt());
+
+        GameEngine other = TestGames.start(1);
+        other.restore(SnapshotCodec.decode(buffer));
+        assertFalse(buffer.hasRemaining());
+        assertEquals(snapshot, other.snapshot());
+    }
+
+    @Test
+    void rejectsTruncatedOrForeignData() {
+        GameEngine engine = TestGames.start(5);
+        byte[] encoded = SnapshotCodec.encode(engine.snapshot());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> SnapshotCodec.decode(Arrays.copyOf(encoded, encoded.length - 1)));
+        encoded[0] = 'X';
+        assertThrows(IllegalArgumentException.class, () -> SnapshotCodec.decode(encoded));
+    }
+
+    @Test
+    void rejectsSnapshotsTooLargeToEncode() {
+        GameEngine engine = TestGames.start(5);
+        GameSnapshot snapshot = engine.snapshot();
+        LevelSnapshot level = snapshot.level();
+
+        BitSet collected = new BitSet();
+        collected.set(SnapshotCodec.MAX_BITSET_SIZE * 8 - 1);
+        GameSnapshot largest = withLevel(snapshot, collected,
+                Collections.nCopies(SnapshotCodec.MAX_GHOSTS, level.ghosts().get(0)));
+        assertEquals(largest, SnapshotCodec.decode(SnapshotCodec.encode(largest)));
+
+        collected.set(SnapshotCodec.MAX_BITSET_SIZE * 8);
+        GameSnapshot tooManyPellets = withLevel(snapshot, collected, level.ghosts());
+        assertThrows(IllegalArgumentException.class, () -> SnapshotCodec.getEncodedSize(tooManyPellets));
+        assertThrows(IllegalArgumentException.class,
+                () -> SnapshotCodec.encode(tooManyPellets, ByteBuffer.allocate(1 << 20)));
+
+        List<GhostSnapshot> ghosts = new ArrayList<>(largest.level().ghosts());
+        ghosts.add(level.ghosts().get(0));
+        GameSnapshot tooManyGhosts = withLevel(snapshot, level.collected(), ghosts);
+        assertThrows(IllegalArgumentException.class, () -> SnapshotCodec.getEncodedSize(tooManyGhosts));
+        assertThrows(IllegalArgumentException.class,
+                () -> SnapshotCodec.encode(tooManyGhosts, ByteBuffer.allocate(1 << 20)));
+    }
+
+    private static GameSnapshot withLevel(GameSnapshot snapshot, BitSet collected, List<GhostSnapshot> ghosts) {
+        LevelSnapshot level = snapshot.level();
+        LevelSnapshot changed = new LevelSnapshot(level.gameState(), level.tickCount(), level.ghostMode(),
+                level.numLives(), level.points(), level.consecutiveGhostsEaten(), collected, level.player(), ghosts);
+        return new GameSnapshot(snapshot.levelNo(), snapshot.gameState(), snapshot.tickCount(), snapshot.score(),
+                snapshot.randomState(), snapshot.currentCommand(), snapshot.queuedCommand(), changed);
+    }
+}
@@ -0,0 +1,51 @@
+package pacman.model.state;
+
+import org.junit.jupiter.api.Test;
+import pacman.model.entity.Sprite;
+import pacman.model.entity.dynamic.ghost.GhostImpl;
+import pacman.model.entity.dynamic.ghost.GhostMode;
+import pacman.model.entity.dynamic.physics.BoundingBoxImpl;
+import pacman.model.entity.dynamic.physics.Direction;
+import pacman.model.entity.dynamic.physics.KinematicStateImpl;
+import pacman.model.entity.dynamic.physics.Vector2D;
+import pacman.model.strategy.BlinkyChaseStrategy;
+import pacman.util.SplitMix64;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FrightenedStateTest {
+
+    @Test
+    void picksSeededRandomDirectionWithoutReversing() {
+        Vector2D position = new Vector2D(64, 64);
+        GhostImpl ghost = new GhostImpl(Sprite.BLINKY, new BoundingBoxImpl(position, 16, 16),
+                new KinematicStateImpl.KinematicStateBuilder().setPosition(position).setDirection(Direction.LEFT)
+                        .build(),
+                GhostMode.FRIGHTENED, new Vector2D(0, 0), 'b', new BlinkyChaseStrategy(), new SplitMix64(17));
+        GhostState frightenedState = ghost.getFrightenedState();
+        // the game's generator produces the same values as SplittableRandom for the same seed
+        SplittableRandom expectedRandom = new SplittableRandom(17);
+
+        for (int i = 0; i < 200; i++) {
+            EnumSet<Direction> possibleDirections = i % 2 == 0
+                    ? EnumSet.allOf(Direction.class)
+                    : EnumSet.of(Direction.UP, Direction.LEFT, Direction.RIGHT);
+            ghost.setPossibleDirections(possibleDirections);
+            Direction reverse = ghost.getDirection().opposite();
+
+            List<Direction> choices = new ArrayList<>(possibleDirections);
+            choices.remove(reverse);
+            Direction expected = choices.get(expectedRandom.nextInt(choices.size()));
+
+            frightenedState.updateDirection();
+
+            assertEquals(expected, ghost.getDirection());
+            assertNotEquals(reverse, ghost.getDirection());
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package pacman.server;
+
+import org.junit.jupiter.api.Test;
+import pacman.model.engine.GameEngine;
+import pacman.model.engine.TestGames;
+import pacman.model.entity.dynamic.physics.Direction;
+import pacman.model.snapshot.GameSnapshot;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameServerTest {
+
+    private static GameSnapshot playLocally(long seed) {
+        GameEngine engine = TestGames.start(seed);
+        TestGames.playToEnd(engine, Integer.MAX_VALUE);
+        return engine.snapshot();
+    }
+
+    private static GameSnapshot playRemotely(int port, long seed, int snapshotInterval) throws IOException {
+        try (GameClient client = GameClient.connect(port, seed)) {
+            assertEquals(seed, client.getSeed());
+            GameSnapshot last = null;
+            GameSnapshot snapshot;
+            while ((snapshot = client.receive()) != null) {
+                if (!client.isEnded()) {
+                    assertEquals(0, snapshot.tickCount() % snapshotInterval);
+                    assertTrue(last == null || snapshot.tickCount() > last.tickCount());
+                }
+                last = snapshot;
+            }
+            assertTrue(client.isEnded());
+            return last;
+        }
+    }
+
+    @Test
+    void hostsConcurrentGamesThatPlayOutLikeLocalOnes() throws Exception {
+        int numClients = 6;
+        try (GameServer server = new GameServer(TestGames.CONFIG_PATH, 0, 5000, 10, 2)) {
+            server.start();
+            ExecutorService clients = Executors.newFixedThreadPool(numClients);
+            try {
+                List<Future<GameSnapshot>> results = new ArrayList<>();
+                for (int i = 0; i < numClients; i++) {
+                    long seed = 100 + i;
+                    results.add(clients.submit(() -> playRemotely(server.getPort(), seed, 10)));
+                }
+
+                for (int i = 0; i < numClients; i++) {
+                    assertEquals(playLocally(100 + i), results.get(i).get());
+                }
+            } finally {
+                clients.shutdown();
+            }
+        }
+    }
+
+    @Test
+    void disconnectsClientThatStopsReadingWithoutStallingOtherGames() throws Exception {
+        // a single tick thread, so both games are ticked by the same worker
+        try (GameServer server = new GameServer(TestGames.CONFIG_PATH, 0, 1000, 1, 1, 300);
+             Socket stalled = new Socket()) {
+            server.start();
+            // a small window fills the connection after a few snapshots
+            stalled.setReceiveBufferSize(1024);
+            stalled.connect(new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getPort()));
+            DataOutputStream out = new DataOutputStream(stalled.getOutputStream());
+            out.writeInt(GameProtocol.MAGIC);
+            out.writeShort(GameProtocol.VERSION);
+            out.writeBoolean(false);
+            out.writeLong(0);
+            out.flush();
+
+            ExecutorService client = Executors.newSingleThreadExecutor();
+            try {
+                Future<GameSnapshot> result = client.submit(() -> playRemotely(server.getPort(), 100, 1));
+                assertEquals(playLocally(100), result.get(30, TimeUnit.SECONDS));
+            } finally {
+                client.shutdownNow();
+            }
+
+            for (int i = 0; i < 500 && server.getNumSessions() > 0; i++) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, server.getNumSessions());
+        }
+    }
+
+    @Test
+    void endsSessionWhenClientQuits() throws IOException, InterruptedException {
+        try (GameServer server = new GameServer(TestGames.CONFIG_PATH, 0, 1000, 1, 1)) {
+            server.start();
+            GameClient client = GameClient.connect(server.getPort());
+            assertNotNull(client.receive());
+            assertEquals(1, server.getNumSessions());
+            client.sendMove(Direction.UP);
+            assertNotNull(client.receive());
+
+            client.close();
+            for (int i = 0; i < 200 && server.getNumSessions() > 0; i++) {
+                Thread.sleep(10);
+            }
+            assertEquals(0, server.getNumSessions());
+        }
+    }
+}
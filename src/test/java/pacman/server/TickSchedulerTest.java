@@ -0,0 +1,156 @@
+package pacman.server;
+
+import org.junit.jupiter.api.Test;
+import pacman.model.engine.GameEngine;
+import pacman.model.engine.TestGames;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickSchedulerTest {
+
+    private static final long PERIOD_NANOS = 1_000_000;
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        for (int i = 0; i < 500 && !condition.getAsBoolean(); i++) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean());
+    }
+
+    @Test
+    void ticksEveryRegisteredTaskUntilCancelled() throws InterruptedException {
+        try (TickScheduler scheduler = new TickScheduler(2, PERIOD_NANOS)) {
+            List<AtomicInteger> counts = new ArrayList<>();
+            List<TickScheduler.Registration> registrations = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                AtomicInteger count = new AtomicInteger();
+                counts.add(count);
+                registrations.add(scheduler.register(count::incrementAndGet));
+            }
+            assertEquals(50, scheduler.getNumRegistrations());
+
+            await(() -> counts.stream().allMatch(count -> count.get() >= 20));
+            for (int i = 0; i < 50; i++) {
+                TickScheduler.Registration registration = registrations.get(i);
+                assertTrue(registration.getTicks() >= 20);
+                assertTrue(registration.getMaxLatenessNanos() >= registration.getLastLatenessNanos());
+                assertTrue(registration.getMeanLatenessNanos() >= 0);
+            }
+
+            registrations.get(0).cancel();
+            await(() -> scheduler.getNumRegistrations() == 49);
+            int cancelledCount = counts.get(0).get();
+            await(() -> counts.get(1).get() >= cancelledCount + 20);
+            assertEquals(cancelledCount, counts.get(0).get());
+        }
+    }
+
+    @Test
+    void cancelsFailingTaskAndKeepsTickingTheOthers() throws InterruptedException {
+        try (TickScheduler scheduler = new TickScheduler(1, PERIOD_NANOS)) {
+            IllegalStateException failure = new IllegalStateException("broken");
+            TickScheduler.Registration failing = scheduler.register(() -> {
+                throw failure;
+            });
+            AtomicInteger count = new AtomicInteger();
+            scheduler.register(count::incrementAndGet);
+
+            await(() -> count.get() >= 10);
+            assertTrue(failing.isCancelled());
+            assertSame(failure, failing.getFailure());
+            assertEquals(1, failing.getTicks());
+        }
+    }
+
+    @Test
+    void movesNewTasksOffAWorkerStoppedByAnError() throws InterruptedException {
+        try (TickScheduler scheduler = new TickScheduler(2, PERIOD_NANOS)) {
+            Error error = new Error("broken");
+            AtomicBoolean fail = new AtomicBoolean();
+            // the failing task and the bystander share the first worker, the survivor has the second to itself
+            TickScheduler.Registration failing = scheduler.register(() -> {
+                if (fail.get()) {
+                    throw error;
+                }
+            });
+            AtomicInteger count = new AtomicInteger();
+            TickScheduler.Registration survivor = scheduler.register(count::incrementAndGet);
+            TickScheduler.Registration bystander = scheduler.register(() -> {
+            });
+            await(() -> bystander.getTicks() > 0);
+
+            fail.set(true);
+            await(bystander::isCancelled);
+            assertTrue(failing.isCancelled());
+            assertSame(error, failing.getFailure());
+            assertEquals(1, scheduler.getNumRegistrations());
+
+            AtomicInteger laterCount = new AtomicInteger();
+            scheduler.register(laterCount::incrementAndGet);
+            assertEquals(2, scheduler.getNumRegistrations());
+            await(() -> laterCount.get() >= 10);
+            assertFalse(survivor.isCancelled());
+            assertTrue(count.get() >= 10);
+        }
+    }
+
+    @Test
+    void rejectsTasksOnceEveryWorkerStopped() throws InterruptedException {
+        try (TickScheduler scheduler = new TickScheduler(1, PERIOD_NANOS)) {
+            scheduler.register(() -> {
+                throw new Error("broken");
+            });
+            await(() -> scheduler.getNumRegistrations() == 0);
+            assertThrows(IllegalStateException.class, () -> scheduler.register(() -> {
+            }));
+        }
+    }
+
+    @Test
+    void skipsPeriodsMissedWhileATaskBlocked() throws InterruptedException {
+        long period = 5_000_000;
+        List<Long> tickTimes = new ArrayList<>();
+        AtomicLong stallEnd = new AtomicLong();
+        // a single worker, so the blocking task holds up the other one
+        try (TickScheduler scheduler = new TickScheduler(1, period)) {
+            AtomicInteger count = new AtomicInteger();
+            scheduler.register(() -> {
+                if (count.incrementAndGet() == 10) {
+                    try {
+                        Thread.sleep(40 * period / 1_000_000);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    stallEnd.set(System.nanoTime());
+                }
+            });
+            TickScheduler.Registration recorder = scheduler.register(() -> tickTimes.add(System.nanoTime()));
+
+            await(() -> stallEnd.get() != 0 && recorder.getTicks() >= 30);
+        }
+
+        // closing joins the worker, so its list can be read here
+        long burst = tickTimes.stream()
+                .filter(time -> time >= stallEnd.get() && time < stallEnd.get() + period)
+                .count();
+        assertTrue(burst <= TickScheduler.MAX_CATCH_UP_PERIODS + 1, burst + " ticks right after the stall");
+    }
+
+    @Test
+    void ticksGameEngines() throws InterruptedException {
+        GameEngine engine = TestGames.start(1);
+        try (TickScheduler scheduler = new TickScheduler(1, PERIOD_NANOS)) {
+            TickScheduler.Registration registration = scheduler.register(engine);
+            await(() -> registration.getTicks() >= 50);
+            registration.cancel();
+        }
+        assertTrue(engine.snapshot().tickCount() >= 50);
+    }
+}
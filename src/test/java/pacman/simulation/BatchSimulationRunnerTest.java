@@ -0,0 +1,63 @@
+package pacman.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchSimulationRunnerTest {
+
+    @Test
+    void runsEveryGameOfTheBatch() {
+        BatchSimulationRunner runner = new BatchSimulationRunner("/config.json", 6, 300, 3,
+                game -> new RandomInputPolicy(game, 10));
+
+        BatchSimulationResult result = runner.run();
+
+        assertEquals(6, result.getResults().size());
+        for (SimulationResult gameResult : result.getResults()) {
+            assertTrue(gameResult.isFinished() || gameResult.getTicks() == 300);
+        }
+        assertTrue(result.getAverageNumLives() <= 3);
+    }
+
+    @Test
+    void gamesPlayTheSameOnOneThreadAsOnMany() {
+        // seeded, so the only difference between the runs is how the games are spread over threads
+        List<SimulationResult> sequential = new BatchSimulationRunner("/config.json", 8, 3_000, 1,
+                game -> new RandomInputPolicy(game, 20), 5).run().getResults();
+        List<SimulationResult> parallel = new BatchSimulationRunner("/config.json", 8, 3_000, 4,
+                game -> new RandomInputPolicy(game, 20), 5).run().getResults();
+
+        assertEquals(sequential.size(), parallel.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            assertEquals(sequential.get(i).getScore(), parallel.get(i).getScore());
+            assertEquals(sequential.get(i).getTicks(), parallel.get(i).getTicks());
+            assertEquals(sequential.get(i).getNumLives(), parallel.get(i).getNumLives());
+        }
+    }
+
+    @Test
+    void seededBatchIsReproducibleWhateverTheThreadCount() {
+        List<SimulationResult> first = new BatchSimulationRunner("/config.json", 6, 2_000, 2,
+                game -> new RandomInputPolicy(game, 20), 42).run().getResults();
+        List<SimulationResult> second = new BatchSimulationRunner("/config.json", 6, 2_000, 3,
+                game -> new RandomInputPolicy(game, 20), 42).run().getResults();
+
+        assertEquals(first.size(), second.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertSameGame(first.get(i), second.get(i));
+        }
+        assertEquals(first.size(), first.stream().mapToLong(SimulationResult::getSeed).distinct().count());
+    }
+
+    private static void assertSameGame(SimulationResult expected, SimulationResult actual) {
+        assertEquals(expected.getSeed(), actual.getSeed());
+        assertEquals(expected.getGameState(), actual.getGameState());
+        assertEquals(expected.getTicks(), actual.getTicks());
+        assertEquals(expected.getScore(), actual.getScore());
+        assertEquals(expected.getNumLives(), actual.getNumLives());
+        assertEquals(expected.getLevelsCleared(), actual.getLevelsCleared());
+    }
+}
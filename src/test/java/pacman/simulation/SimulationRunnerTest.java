@@ -0,0 +1,61 @@
+package pacman.simulation;
+
+import org.junit.jupiter.api.Test;
+import pacman.model.engine.GameEngine;
+import pacman.model.engine.GameEngineImpl;
+import pacman.model.engine.TestGames;
+import pacman.model.engine.observer.GameState;
+import pacman.model.engine.replay.Replay;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationRunnerTest {
+
+    @Test
+    void stopsAtTickBudget() {
+        SimulationResult result = new SimulationRunner(new GameEngineImpl("/config.json"), 200).run();
+
+        assertEquals(200, result.getTicks());
+        assertEquals(GameState.IN_PROGRESS, result.getGameState());
+        assertFalse(result.isFinished());
+        assertEquals(3, result.getNumLives());
+        assertEquals(0, result.getLevelsCleared());
+    }
+
+    @Test
+    void replayReproducesRecordedGame() throws IOException {
+        GameEngine recorded = new GameEngineImpl("/config.json", 11);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        recorded.startRecording(out);
+        SimulationResult original = new SimulationRunner(recorded, 20_000, new RandomInputPolicy(3, 25)).run();
+        recorded.stopRecording();
+
+        Replay replay = Replay.read(new ByteArrayInputStream(out.toByteArray()));
+        assertEquals(11, replay.getSeed());
+        assertEquals(original.getTicks(), replay.getEndTick());
+        assertTrue(replay.getNumMoves() > 0);
+
+        GameEngine replayed = new GameEngineImpl(replay.getConfigPath(), replay.getSeed());
+        SimulationResult result = new SimulationRunner(replayed, replay.getEndTick(), new ReplayInputPolicy(replay)).run();
+
+        assertEquals(original.getGameState(), result.getGameState());
+        assertEquals(original.getTicks(), result.getTicks());
+        assertEquals(original.getScore(), result.getScore());
+        assertEquals(original.getNumLives(), result.getNumLives());
+        TestGames.assertSameRenderables(recorded, replayed);
+    }
+
+    @Test
+    void parsesNamedOptions() {
+        Map<String, String> options = SimulationRunner.parseOptions(new String[]{"--config=a.json", "--maxTicks=5"});
+
+        assertEquals("a.json", options.get("config"));
+        assertEquals("5", options.get("maxTicks"));
+        assertThrows(IllegalArgumentException.class, () -> SimulationRunner.parseOptions(new String[]{"maxTicks"}));
+    }
+}
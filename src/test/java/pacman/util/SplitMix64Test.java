@@ -0,0 +1,37 @@
+package pacman.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SplitMix64Test {
+
+    @Test
+    void matchesSplittableRandomForTheSameSeed() {
+        SplitMix64 random = new SplitMix64(42);
+        SplittableRandom expected = new SplittableRandom(42);
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(expected.nextLong(), random.nextLong());
+            assertEquals(expected.nextInt(3), random.nextInt(3));
+            assertEquals(expected.nextInt(4), random.nextInt(4));
+            assertEquals(expected.nextInt(1, 4), random.nextInt(1, 4));
+            assertEquals(expected.nextInt(-5, Integer.MAX_VALUE), random.nextInt(-5, Integer.MAX_VALUE));
+        }
+    }
+
+    @Test
+    void continuesFromRestoredState() {
+        SplitMix64 random = new SplitMix64(7);
+        random.nextLong();
+        long state = random.getState();
+        long first = random.nextLong();
+        int second = random.nextInt(10);
+
+        random.setState(state);
+        assertEquals(first, random.nextLong());
+        assertEquals(second, random.nextInt(10));
+    }
+}